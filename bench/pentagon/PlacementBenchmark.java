@@ -0,0 +1,144 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the JMH benchmarks for the primitive operations the searches are built
+ * from: putting Pieces on the Board, taking them off and asking where their cells are.
+ * 
+ * =====
+ *
+ *  @file     PlacementBenchmark.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementBenchmark {
+    private Board board;                    // The Board the Pieces go on
+    private Piece[] pieces;                 // The solution-01 set of Pieces
+    private int[] solutionPos;              //   and where each of them is in solution 01
+    private Piece piece;                    // The Piece placeAndRemove() moves around
+    private int pos;                        //   and the position it tries next
+
+    @Setup
+    public void setUp() {
+        board = new Board();
+        pieces = Piece.makePieces("ABCDEFGHIJKLMOPA");
+        solutionPos = new int[pieces.length];
+        board.solveForSet(pieces, Piece.NOT_POSITIONED, s -> {
+            boolean[] used = new boolean[s.getPieceCount()];
+            for (int i = 0; i < pieces.length; i++) {
+                int j = 0;
+                while (used[j] || s.getPiece(j) != pieces[i].pNum) {
+                    j++;
+                }
+                used[j] = true;
+                solutionPos[i] = s.getPosition(j);
+            }
+            return false;
+        });
+        piece = pieces[Piece.F];
+        pos = 0;
+    }
+
+    /****
+     * Put one Piece on the empty Board in each of its positions in turn and take it off again.
+     */
+    @Benchmark
+    public boolean placeAndRemove() {
+        boolean answer = board.tryToPlace(piece, pos);
+        if (answer) {
+            board.removePiece(piece);
+        }
+        if (++pos == Piece.positionsFor(piece.pNum)) {
+            pos = 0;
+        }
+        return answer;
+    }
+
+    /****
+     * Fill the Board with solution 01 and then empty it again, the last Piece put on first 
+     * off, the way the searches do.
+     */
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void fillAndEmpty() {
+        for (int i = 0; i < pieces.length; i++) {
+            board.tryToPlace(pieces[i], solutionPos[i]);
+        }
+        for (int i = pieces.length - 1; i >= 0; i--) {
+            board.removePiece(pieces[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[][] getPieceCells() {
+        if (++pos == Piece.positionsFor(piece.pNum)) {
+            pos = 0;
+        }
+        return piece.getPieceCells(pos);
+    }
+
+    @Benchmark
+    public void getCell(Blackhole bh) {
+        if (++pos == Piece.positionsFor(piece.pNum)) {
+            pos = 0;
+        }
+        for (int i = 0; i < 3; i++) {
+            bh.consume(piece.getCell(pos, i));
+        }
+    }
+
+    @Benchmark
+    public long getMask() {
+        if (++pos == Piece.positionsFor(piece.pNum)) {
+            pos = 0;
+        }
+        return piece.getMask(pos);
+    }
+}
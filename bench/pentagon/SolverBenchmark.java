@@ -0,0 +1,146 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the JMH benchmarks for the searches: one solveForSet() on the Pieces of
+ * solution 01 and the full sweep App does for a single extra Piece, with each of the solvers.
+ * 
+ * =====
+ *
+ *  @file     SolverBenchmark.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@Fork(1)
+public class SolverBenchmark {
+    private Piece[] solution01;             // The Pieces of solution 01 in README.md
+
+    /****
+     * The number of placements the search made, reported by JMH as a rate alongside the 
+     * score, i.e., as nodes/sec.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Nodes {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            nodes = 0;
+        }
+    }
+
+    /****
+     * What sweep() does: which solver, and which extra Piece.
+     */
+    @State(Scope.Thread)
+    public static class Sweep {
+        @Param({"backtrack", "cells", "dlx", "halves", "bitset"})
+        public String solver;
+
+        @Param({"A"})
+        public String extra;
+    }
+
+    @Setup
+    public void setUp() {
+        solution01 = Piece.makePieces("ABCDEFGHIJKLMOPA");
+    }
+
+    /****
+     * Find all the solutions for the set of Pieces in solution 01, with the solveForSet() 
+     * that Board.solve() runs for each combination.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public boolean solveForSet(Nodes counters, Blackhole bh) {
+        Board board = new Board();
+        boolean answer = board.solveForSet(solution01, Piece.NOT_POSITIONED, s -> {
+            bh.consume(s);
+            return true;
+        });
+        counters.nodes += board.getNodeCount();
+        return answer;
+    }
+
+    /****
+     * Find all the solutions with one extra Piece, the way App does for each extra, but 
+     * handing them to a Blackhole rather than printing them.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public void sweep(Sweep sweep, Blackhole bh) {
+        int e = sweep.extra.charAt(0) - 'A';
+        SolutionListener listener = s -> {
+            bh.consume(s);
+            return true;
+        };
+        switch (sweep.solver) {
+            case "backtrack":
+                new Board().solve(e, listener);
+                break;
+            case "cells":
+                new Board().solveByCell(e, listener);
+                break;
+            case "dlx":
+                new DlxSolver().solve(e, listener);
+                break;
+            case "halves":
+                new HalfBoardSolver().solve(e, listener);
+                break;
+            case "bitset":
+                new BitsetSolver().solve(e, listener);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown solver '" + sweep.solver + "'.");
+        }
+    }
+}
@@ -0,0 +1,681 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the driver program that actually instantiates the Board and Pieces and 
+ * uses them to solve the puzzle.
+ * 
+ * =====
+ *
+ *  @file     App.java 
+ * 
+ *  @version  Version 1.0.0, October 2022
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+public class App {
+
+    /****
+     * A SolutionListener that passes the first few solutions on to another listener and 
+     * then stops the search.
+     */
+    private static class FirstN implements SolutionListener {
+        private final SolutionListener next;
+        private final long n;
+        private long nSeen;
+
+        FirstN(SolutionListener next, long n) {
+            this.next = next;
+            this.n = n;
+        }
+
+        @Override
+        public boolean solutionFound(Solution s) {
+            nSeen++;
+            return next.solutionFound(s) && nSeen < n;
+        }
+
+        @Override
+        public void combinationDone(Piece[] comb, boolean solved) {
+            next.combinationDone(comb, solved);
+        }
+    }
+
+    /****
+     * A SolutionListener that passes everything on to two others. The search stops if 
+     * either of them says to.
+     */
+    private static class Tee implements SolutionListener {
+        private final SolutionListener first;
+        private final SolutionListener second;
+
+        Tee(SolutionListener first, SolutionListener second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        /****
+         * Return a listener that appends each solution to store, if there is one, and 
+         * passes everything on to next.
+         */
+        static SolutionListener storing(SolutionStoreWriter store, SolutionListener next) {
+            return store == null ? next : new Tee(store, next);
+        }
+
+        @Override
+        public boolean solutionFound(Solution s) {
+            boolean more = first.solutionFound(s);
+            return second.solutionFound(s) && more;
+        }
+
+        @Override
+        public void combinationDone(Piece[] comb, boolean solved) {
+            first.combinationDone(comb, solved);
+            second.combinationDone(comb, solved);
+        }
+    }
+
+    /****
+     * A SolutionListener that appends each solution to the solution file of the checkpoints, 
+     * counts how many each search in the sweep has found, and passes everything on to 
+     * another listener.
+     */
+    private static class Recorder implements SolutionListener {
+        private final SolutionListener next;
+        private final SolutionStoreWriter log;  // Where the solutions go
+        final int[] found = new int[Piece.N_PIECES];    // How many each search has found
+        int item;                               // The search in the sweep that's running
+
+        Recorder(SolutionListener next, SolutionStoreWriter log) {
+            this.next = next;
+            this.log = log;
+        }
+
+        @Override
+        public boolean solutionFound(Solution s) {
+            log.solutionFound(s);               // (Written before the count that includes it)
+            found[item]++;
+            return next.solutionFound(s);
+        }
+
+        @Override
+        public void combinationDone(Piece[] comb, boolean solved) {
+            next.combinationDone(comb, solved);
+        }
+
+        /****
+         * Write a Checkpoint of the sweep
+         * 
+         * @param path      Where
+         * @param frontier  Where the search that's running had got to
+         */
+        void checkpoint(Path path, SearchFrontier frontier) {
+            try {
+                new Checkpoint(item, frontier, found).write(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /****
+     * The driver program
+     * @param args          --solver=backtrack (the default) uses Board's backtracking search;
+     *                      --solver=parallel does the same search split across threads;
+     *                      --solver=cells uses Board's single search over all the Pieces;
+     *                      --solver=dlx uses DlxSolver's exact cover search instead;
+     *                      --solver=halves uses HalfBoardSolver's meet-in-the-middle search;
+     *                      --solver=bitset uses BitsetSolver's search over sets of placements;
+     *                      --solver=spool does the backtracking search split into WorkUnits 
+     *                      solved by Worker processes (see Coordinator).
+     *                      --threads=n sets the number of threads for --solver=parallel 
+     *                      (default: one per processor).
+     *                      --spool=dir sets the directory --solver=spool hands out the work 
+     *                      through (default: spool).
+     *                      --workers=n sets the number of Worker processes --solver=spool 
+     *                      starts (default: one per processor). 0 ==> rely on ones started 
+     *                      some other way.
+     *                      --worker makes this a Worker process: solve WorkUnits from the 
+     *                      --spool directory until there's no more work.
+     *                      --serve=port answers solve, count and solvable questions over 
+     *                      HTTP on port until stopped, instead of searching once (see 
+     *                      SolverService).
+     *                      --cache=n sets how many sets of pieces --serve remembers the 
+     *                      answers for (default: 1024).
+     *                      --time-limit=s sets how long --serve works on any one question 
+     *                      before giving up on it (default: 10; 0 ==> no limit).
+     *                      --no-prune turns off the backtracking search's dead region check.
+     *                      --no-donation stops --solver=parallel's searches giving part of 
+     *                      their work to idle threads.
+     *                      --memo=MB gives --solver=cells, --count and --solvable a 
+     *                      TranspositionTable of MB megabytes to remember what they've 
+     *                      already worked out in.
+     *                      --region=file counts the ways the Pieces fill the region pictured 
+     *                      in file (see Region.parse()) for each extra Piece, using a 
+     *                      PieceCatalog generated from the Tiling's rules.
+     *                      --catalog-cache=dir sets where those catalogs are kept (default: 
+     *                      catalogs). A region of more than 64 cells is filled by 
+     *                      WideBoardSolver instead, using --copies=n copies of each Piece 
+     *                      (default: enough for the region), printing the first --first=n 
+     *                      ways (default: 1).
+     *                      --design=min-max looks, in parallel (see --threads), for puzzles 
+     *                      with exactly one solution among regions of min to max cells cut 
+     *                      from the tiling (see PuzzleDesigner), each with every set of 
+     *                      pieces that fills it and differs from the 16 by at most 
+     *                      --changes=n pieces (default: 1).
+     *                      --first=n stops after the first n solutions for each extra Piece.
+     *                      --count just counts the solutions for each extra Piece.
+     *                      --estimate just estimates how many nodes the backtracking 
+     *                      search for each extra Piece will visit, combination by 
+     *                      combination, and how long that will take (see 
+     *                      TreeSizeEstimator).
+     *                      --progress has --solver=backtrack report, on stderr, how far it 
+     *                      has got and how long it has left after each combination.
+     *                      --probes=n sets how many random probes of each combination's 
+     *                      search those make (default: 1000).
+     *                      --extras=k finds the solutions for every multiset of k extra 
+     *                      Pieces at once (see ExtrasSweep) and ends with a table of how 
+     *                      many each has; with --count, just prints the table.
+     *                      --solvable=names just says whether the 16 Pieces named (e.g., 
+     *                      ABCDEFGHIJKLMOPA) can fill the Board.
+     *                      --checkpoint=file has --solver=backtrack write how far it has got 
+     *                      to file every so often, and each solution it finds to 
+     *                      file.solutions as it goes (see Checkpoint).
+     *                      --checkpoint-every=s sets how often, in seconds (default: 60).
+     *                      --resume picks up from the --checkpoint file, if there is one, 
+     *                      printing what had been found and then carrying on from there.
+     *                      --store=file appends each solution found to file (see 
+     *                      SolutionStore).
+     *                      --read=file prints the solutions in file instead of searching, 
+     *                      just those that don't use piece X with --omitting=X and just 
+     *                      those that use more than one piece Y with --repeating=Y.
+     *                      --stats prints the search's SearchStats, including the nodes and 
+     *                      backtracks at each depth, at the end. They can also be watched 
+     *                      while it runs over JMX, as pentagon:type=SearchStats.
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        String solver = "backtrack";
+        int nThreads = Runtime.getRuntime().availableProcessors();
+        long first = Long.MAX_VALUE;
+        boolean countOnly = false;
+        boolean estimating = false;
+        boolean progress = false;
+        int probes = TreeSizeEstimator.DEFAULT_PROBES;
+        boolean prune = true;
+        boolean donate = true;
+        boolean showStats = false;
+        String solvable = null;
+        Path checkpointFile = null;
+        long checkpointEvery = 60;
+        boolean resuming = false;
+        Path spoolDir = Paths.get("spool");
+        int nWorkers = nThreads;
+        boolean worker = false;
+        Path storeFile = null;
+        Path readFile = null;
+        int omitting = -1;
+        int repeating = -1;
+        long memoMB = 0;
+        int nExtras = 0;
+        Path regionFile = null;
+        Path catalogDir = Paths.get("catalogs");
+        int servePort = -1;
+        int nCopies = 0;
+        int[] designCells = null;
+        int maxChanges = 1;
+        int cacheSize = SolverService.DEFAULT_CACHE_SIZE;
+        long timeLimitMs = SolverService.DEFAULT_TIME_LIMIT_MS;
+        for (String arg : args) {
+            if (arg.startsWith("--solver=")) {
+                solver = arg.substring("--solver=".length());
+            } else if (arg.startsWith("--threads=")) {
+                nThreads = Integer.parseInt(arg.substring("--threads=".length()));
+            } else if (arg.startsWith("--first=")) {
+                first = Long.parseLong(arg.substring("--first=".length()));
+            } else if (arg.startsWith("--memo=")) {
+                memoMB = Long.parseLong(arg.substring("--memo=".length()));
+            } else if (arg.equals("--no-prune")) {
+                prune = false;
+            } else if (arg.equals("--no-donation")) {
+                donate = false;
+            } else if (arg.startsWith("--checkpoint=")) {
+                checkpointFile = Paths.get(arg.substring("--checkpoint=".length()));
+            } else if (arg.startsWith("--checkpoint-every=")) {
+                checkpointEvery = Long.parseLong(arg.substring("--checkpoint-every=".length()));
+            } else if (arg.startsWith("--spool=")) {
+                spoolDir = Paths.get(arg.substring("--spool=".length()));
+            } else if (arg.startsWith("--workers=")) {
+                nWorkers = Integer.parseInt(arg.substring("--workers=".length()));
+            } else if (arg.startsWith("--store=")) {
+                storeFile = Paths.get(arg.substring("--store=".length()));
+            } else if (arg.startsWith("--read=")) {
+                readFile = Paths.get(arg.substring("--read=".length()));
+            } else if (arg.startsWith("--omitting=")) {
+                omitting = pieceNamed(arg);
+            } else if (arg.startsWith("--repeating=")) {
+                repeating = pieceNamed(arg);
+            } else if (arg.startsWith("--serve=")) {
+                servePort = Integer.parseInt(arg.substring("--serve=".length()));
+            } else if (arg.startsWith("--cache=")) {
+                cacheSize = Integer.parseInt(arg.substring("--cache=".length()));
+            } else if (arg.startsWith("--time-limit=")) {
+                timeLimitMs = Long.parseLong(arg.substring("--time-limit=".length())) * 1000;
+            } else if (arg.equals("--worker")) {
+                worker = true;
+            } else if (arg.equals("--resume")) {
+                resuming = true;
+            } else if (arg.equals("--stats")) {
+                showStats = true;
+            } else if (arg.startsWith("--extras=")) {
+                nExtras = Integer.parseInt(arg.substring("--extras=".length()));
+            } else if (arg.startsWith("--region=")) {
+                regionFile = Paths.get(arg.substring("--region=".length()));
+            } else if (arg.startsWith("--design=")) {
+                designCells = Arrays.stream(arg.substring("--design=".length()).split("-")).mapToInt(Integer::parseInt).toArray();
+            } else if (arg.startsWith("--changes=")) {
+                maxChanges = Integer.parseInt(arg.substring("--changes=".length()));
+            } else if (arg.startsWith("--copies=")) {
+                nCopies = Integer.parseInt(arg.substring("--copies=".length()));
+            } else if (arg.startsWith("--catalog-cache=")) {
+                catalogDir = Paths.get(arg.substring("--catalog-cache=".length()));
+            } else if (arg.equals("--count")) {
+                countOnly = true;
+            } else if (arg.equals("--estimate")) {
+                estimating = true;
+            } else if (arg.equals("--progress")) {
+                progress = true;
+            } else if (arg.startsWith("--probes=")) {
+                probes = Integer.parseInt(arg.substring("--probes=".length()));
+            } else if (arg.startsWith("--solvable=")) {
+                solvable = arg.substring("--solvable=".length());
+            } else {
+                System.err.printf("Unknown argument \"%s\".\n", arg);
+                System.exit(1);
+            }
+        }
+        if (!solver.equals("backtrack") && !solver.equals("parallel") && !solver.equals("spool") && 
+            !solver.equals("cells") && !solver.equals("dlx") && !solver.equals("halves") && 
+            !solver.equals("bitset")) {
+            System.err.printf("Unknown solver \"%s\". Use --solver=backtrack, parallel, spool, cells, dlx, halves or bitset.\n", solver);
+            System.exit(1);
+        }
+        if ((checkpointFile != null || resuming) && (!solver.equals("backtrack") || countOnly || solvable != null)) {
+            System.err.println("Only --solver=backtrack can checkpoint and resume.");
+            System.exit(1);
+        }
+        if (resuming && checkpointFile == null) {
+            System.err.println("--resume needs --checkpoint=file to say what to resume from.");
+            System.exit(1);
+        }
+
+        if (worker) {
+            new Worker(new Spool(spoolDir)).run();
+            return;
+        }
+
+        if (servePort >= 0) {
+            SolverService service = new SolverService(servePort, cacheSize);
+            service.setTimeLimit(timeLimitMs);
+            service.getStats().register("service");
+            service.start();                            // (It keeps the JVM running)
+            System.out.printf("Answering on http://localhost:%d/solve, /count, /solvable and /stats.\n", service.getPort());
+            return;
+        }
+
+        if (readFile != null) {
+            try (SolutionStore stored = SolutionStore.open(readFile)) {
+                BitSet wanted = new BitSet();
+                (omitting >= 0 ? stored.omitting(omitting) : IntStream.range(0, stored.size())).forEach(wanted::set);
+                if (repeating >= 0) {
+                    BitSet repeats = new BitSet();
+                    stored.repeating(repeating).forEach(repeats::set);
+                    wanted.and(repeats);
+                }
+                SolutionListener printer = new SolutionPrinter(System.out);
+                wanted.stream().forEach(i -> printer.solutionFound(stored.get(i)));
+                long n = wanted.cardinality();
+                System.out.printf("\n%d of the %d solutions stored.\n", n, stored.size());
+            }
+            return;
+        }
+        if (designCells != null) {
+            PuzzleDesigner designer = new PuzzleDesigner(new ForkJoinPool(nThreads), new CatalogCache(catalogDir));
+            designer.getStats().register("design");
+            List<PuzzleDesigner.Candidate> candidates = PuzzleDesigner.candidates(
+                PuzzleDesigner.regions(designCells[0], designCells[designCells.length - 1]), maxChanges);
+            long start = System.nanoTime();
+            int[] solutions = designer.evaluate(candidates);
+            PuzzleDesigner.printResults(System.out, candidates, solutions);
+            System.out.printf("\nEvaluated them in %.1f s.\n", (System.nanoTime() - start) / 1e9);
+            if (showStats) {
+                printStats(designer.getStats());
+            }
+            return;
+        }
+
+        Region region = regionFile == null ? null : Region.read(regionFile);
+        if (region != null && region.isWide()) {
+            int[] counts = new int[Piece.N_PIECES];
+            Arrays.fill(counts, nCopies > 0 ? nCopies : (region.getCellCount() + 3 * Piece.N_PIECES - 1) / (3 * Piece.N_PIECES));
+            System.out.printf("%s\n%d cells, %d copies of each piece.\n", region, region.getCellCount(), counts[0]);
+            WideBoardSolver wide = new WideBoardSolver(region);
+            long start = System.nanoTime();
+            long n = wide.solve(counts, first == Long.MAX_VALUE ? 1 : first, layout -> {
+                System.out.printf("\n%s", WideBoardSolver.draw(region, layout));
+                return true;
+            });
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("\nFound %d in %.1f s: %d nodes (%.0f nodes/sec).\n", n, seconds, wide.getNodeCount(), 
+                wide.getNodeCount() / seconds);
+            return;
+        }
+
+        if (region != null) {
+            CatalogCache cache = new CatalogCache(catalogDir);
+            long start = System.nanoTime();
+            PieceCatalog catalog = cache.get(region);
+            long micros = (System.nanoTime() - start) / 1000;
+            System.out.printf("%s\n%d cells, %d positions for the pieces, catalog %s in %d microseconds.\n\n", region, region.getCellCount(), 
+                catalog.placementCount(), cache.getLoadedCount() > 0 ? "loaded" : "generated", micros);
+            BitsetSolver bitset = new BitsetSolver(catalog, region.getCells());
+            bitset.getStats().register("region");
+            long total = 0;
+            for (int i = Piece.A; i < Piece.N_PIECES; i++) {
+                long n = bitset.count(new int[] {i});
+                System.out.printf("Add extra piece %c: %d ways.\n", (char)(i + 'A'), n);
+                total += n;
+            }
+            System.out.printf("Total: %d ways.\n", total);
+            if (showStats) {
+                printStats(bitset.getStats());
+            }
+            return;
+        }
+
+        SolutionStoreWriter store = storeFile == null ? null : new SolutionStoreWriter(storeFile);
+                                                        // (It writes each solution straight away, 
+                                                        //   so there's nothing to flush at the end)
+
+        TranspositionTable memo = memoMB == 0 ? null : new TranspositionTable(memoMB << 20);
+
+        if (solvable != null) {
+            Piece[] set = Piece.makePieces(solvable);
+            if (set.length != Board.CAPACITY) {
+                System.err.printf("A set of pieces has to have %d pieces, not %d.\n", Board.CAPACITY, set.length);
+                System.exit(1);
+            }
+            Board board = new Board();
+            board.setTranspositionTable(memo);
+            System.out.println(board.isSolvable(set) ? "Solvable." : "Not solvable.");
+            return;
+        }
+
+        if (nExtras > 0) {
+            Board board = new Board();
+            board.setTranspositionTable(memo);
+            board.getStats().register("extras");
+            ExtrasSweep sweep = new ExtrasSweep(nExtras, countOnly ? null : Tee.storing(store, new SolutionPrinter(System.out)));
+            long n = sweep.run(board);
+            System.out.printf("\n%d different solutions use up to %d extra pieces.\n\n", n, nExtras);
+            sweep.printTable(System.out);
+            if (showStats) {
+                printStats(board.getStats());
+                printMemo(memo);
+            }
+            return;
+        }
+
+        if (countOnly) {
+            Board board = new Board();
+            board.setTranspositionTable(memo);
+            board.getStats().register("count");
+            long total = 0;
+            for (int i = Piece.A; i < Piece.N_PIECES; i++) {
+                int[] extras = {i};
+                long n = board.count(extras, first);
+                System.out.printf("Add extra piece %c: %d solutions.\n", (char)(i + 'A'), n);
+                total += n;
+            }
+            System.out.printf("Total: %d solutions.\n", total);
+            if (showStats) {
+                printStats(board.getStats());
+                printMemo(memo);
+            }
+            return;
+        }
+
+        if (estimating) {
+            TreeSizeEstimator estimator = new TreeSizeEstimator(probes, 1L);
+            estimator.setDeadRegionPruning(prune);
+            double rate = TreeSizeEstimator.measureRate(5000);
+            System.out.printf("The backtracking search visits about %.0f nodes/sec here.\n", rate);
+            List<TreeSizeEstimator.Estimate> all = new ArrayList<>();
+            for (int i = Piece.A; i < Piece.N_PIECES; i++) {
+                System.out.printf("\nAdd extra piece %c.\n", (char)(i + 'A'));
+                List<TreeSizeEstimator.Estimate> estimates = estimator.estimate(new int[] {i});
+                TreeSizeEstimator.printTable(System.out, estimates, rate);
+                all.addAll(estimates);
+            }
+            System.out.printf("\nAll told: about %.0f nodes (+/- %.1f%%), %s.\n", TreeSizeEstimator.totalNodes(all), 
+                100 * TreeSizeEstimator.totalError(all) / TreeSizeEstimator.totalNodes(all), 
+                TreeSizeEstimator.duration(TreeSizeEstimator.totalNodes(all) / rate));
+            return;
+        }
+
+        if (solver.equals("parallel")) {
+            ParallelSolver parallel = new ParallelSolver(new ForkJoinPool(nThreads));
+            parallel.setDeadRegionPruning(prune);
+            parallel.setWorkDonation(donate);
+            parallel.getStats().register(solver);
+            List<ForkJoinTask<Boolean>> tasks = new ArrayList<>();
+            List<ByteArrayOutputStream> results = new ArrayList<>();
+            for (int i = Piece.A; i < Piece.N_PIECES; i++) {    // All the extras run at once, so each
+                results.add(new ByteArrayOutputStream());       //   gets printed somewhere of its own
+                SolutionListener printer = new SolutionPrinter(new PrintStream(results.get(i), true));
+                tasks.add(parallel.submit(i, new FirstN(Tee.storing(store, printer), first)));
+            }
+            for (int i = Piece.A; i < Piece.N_PIECES; i++) {
+                System.out.printf("\nAdd extra piece %c.\n", (char)(i + 'A'));
+                tasks.get(i).join();
+                System.out.print(results.get(i).toString());
+                System.out.flush();
+            }
+            System.out.printf("\nSkipped %d duplicate combinations and %d positions that only swapped repeated pieces.\n",
+                parallel.getSkippedCount(), parallel.getPrunedCount());
+            System.out.printf("Visited %d nodes; %d placements were taken back for leaving an unfillable region.\n",
+                parallel.getNodeCount(), parallel.getDeadEndCount());
+            System.out.printf("%d parts of searches were handed to idle threads.\n", parallel.getDonatedCount());
+            if (showStats) {
+                printStats(parallel.getStats());
+            }
+            return;
+        }
+
+        if (solver.equals("spool")) {
+            try (Coordinator coordinator = new Coordinator(new Spool(spoolDir))) {
+                coordinator.getStats().register(solver);
+                List<Coordinator.Job> jobs = new ArrayList<>();
+                for (int i = Piece.A; i < Piece.N_PIECES; i++) {
+                    jobs.add(coordinator.submit(new int[] {i}));
+                }
+                coordinator.startWorkers(nWorkers);
+                SolutionListener printer = new SolutionPrinter(System.out);
+                for (int i = Piece.A; i < Piece.N_PIECES; i++) {
+                    System.out.printf("\nAdd extra piece %c.\n", (char)(i + 'A'));
+                    coordinator.deliver(jobs.get(i), new FirstN(Tee.storing(store, printer), first));
+                }
+                SearchStats stats = coordinator.getStats();
+                System.out.printf("\nSkipped %d duplicate combinations and %d positions that only swapped repeated pieces.\n",
+                    stats.getSkippedCount(), stats.getPrunedCount());
+                System.out.printf("Visited %d nodes; %d placements were taken back for leaving an unfillable region.\n",
+                    stats.getNodeCount(), stats.getDeadEndCount());
+                System.out.printf("%d work units were handed out again after their worker died.\n", 
+                    coordinator.getRequeuedCount());
+                if (showStats) {
+                    printStats(stats);
+                }
+            }
+            return;
+        }
+
+        Board board = new Board();
+        board.setDeadRegionPruning(prune);
+        board.setTranspositionTable(memo);
+        DlxSolver dlx = new DlxSolver();
+        HalfBoardSolver halves = new HalfBoardSolver();
+        BitsetSolver bitset = new BitsetSolver();
+        SearchStats stats = solver.equals("dlx") ? dlx.getStats() : solver.equals("halves") ? halves.getStats() : 
+            solver.equals("bitset") ? bitset.getStats() : board.getStats();
+        stats.register(solver);
+        SolutionListener printer = new SolutionPrinter(System.out);
+        if (progress && solver.equals("backtrack")) {
+            TreeSizeEstimator estimator = new TreeSizeEstimator(probes, 1L);
+            estimator.setDeadRegionPruning(prune);
+            List<TreeSizeEstimator.Estimate> estimates = new ArrayList<>();
+            for (int i = Piece.A; i < Piece.N_PIECES; i++) {
+                estimates.addAll(estimator.estimate(new int[] {i}));
+            }
+            System.err.printf("Estimated %.0f nodes in all.\n", TreeSizeEstimator.totalNodes(estimates));
+            printer = new SweepProgress(estimates, board.getStats(), System.err, printer);
+        }
+        Recorder recorder = null;
+        Checkpoint resume = null;
+        SolutionStore resumed = null;
+        if (checkpointFile != null) {
+            resume = resuming && Files.exists(checkpointFile) ? Checkpoint.read(checkpointFile) : null;
+            Path log = Checkpoint.solutionsPath(checkpointFile);
+            recorder = new Recorder(printer, new SolutionStoreWriter(log, resume == null ? 0 : resume.getSolutionCount()));
+            resumed = resume == null ? null : SolutionStore.open(log);
+            Path file = checkpointFile;
+            Recorder r = recorder;
+            board.setCheckpoints(frontier -> r.checkpoint(file, frontier), checkpointEvery * 1000);
+        }
+        int replayed = 0;                               // The solutions in resumed replayed so far
+        for (int i = Piece.A; i < Piece.N_PIECES; i++) {
+            System.out.printf("\nAdd extra piece %c.\n", (char)(i + 'A'));
+            SearchFrontier from = null;
+            long nResumed = 0;
+            if (resume != null && i <= resume.getItem()) {     // Replay what was found before
+                for (int k = 0; k < resume.getFoundCount(i); k++) {
+                    printer.solutionFound(resumed.getRecord(replayed++));
+                    nResumed++;
+                }
+                recorder.found[i] = resume.getFoundCount(i);
+                if (i < resume.getItem() || nResumed >= first) {
+                    continue;
+                }
+                from = resume.getFrontier();
+            }
+            if (recorder != null) {
+                recorder.item = i;
+            }
+            SolutionListener listener = new FirstN(Tee.storing(store, recorder == null ? printer : recorder), first - nResumed);
+            if (solver.equals("dlx")) {
+                dlx.solve(i, listener);
+            } else if (solver.equals("halves")) {
+                halves.solve(i, listener);
+            } else if (solver.equals("bitset")) {
+                bitset.solve(i, listener);
+            } else if (solver.equals("cells")) {
+                board.solveByCell(i, listener);
+            } else {
+                board.solve(new int[] {i}, listener, from);
+            }
+            if (recorder != null) {
+                recorder.item = i + 1;
+                recorder.checkpoint(checkpointFile, 
+                    new SearchFrontier(i + 1 < Piece.N_PIECES ? new int[] {i + 1} : null, 0, false, new int[0]));
+            }
+        }
+        if (solver.equals("backtrack")) {
+            System.out.printf("\nSkipped %d duplicate combinations and %d positions that only swapped repeated pieces.\n",
+                board.getSkippedCount(), board.getPrunedCount());
+            System.out.printf("Visited %d nodes; %d placements were taken back for leaving an unfillable region.\n",
+                board.getNodeCount(), board.getDeadEndCount());
+        }
+        if (showStats) {
+            printStats(stats);
+            printMemo(memo);
+        }
+    }
+
+    /****
+     * Return the number of the Piece named by a switch like --omitting=X, or, if it doesn't 
+     * name exactly one, say so and exit.
+     * 
+     * @param arg       The switch
+     * @return          The Piece's number
+     */
+    private static int pieceNamed(String arg) {
+        String name = arg.substring(arg.indexOf('=') + 1);
+        if (name.length() != 1 || name.charAt(0) < 'A' || name.charAt(0) >= 'A' + Piece.N_PIECES) {
+            System.err.printf("%s needs the name of one piece, A to P, not \"%s\".\n", arg.substring(0, arg.indexOf('=')), name);
+            System.exit(1);
+        }
+        return name.charAt(0) - 'A';
+    }
+
+    /****
+     * Print what a search counted.
+     * 
+     * @param stats     The SearchStats to print
+     */
+    private static void printStats(SearchStats stats) {
+        System.out.printf("\n%s.\n\n%s", stats, stats.depthTable());
+    }
+
+    /****
+     * Print what a TranspositionTable did, if there was one.
+     * 
+     * @param memo      The TranspositionTable. null ==> there wasn't one.
+     */
+    private static void printMemo(TranspositionTable memo) {
+        if (memo != null) {
+            System.out.printf("\nTransposition table: %s.\n", memo);
+        }
+    }
+}
@@ -0,0 +1,366 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the BitsetSolver class, which finds solutions to the puzzle by keeping
+ * the set of placements that are still possible and narrowing it a word at a time.
+ * 
+ * =====
+ *
+ *  @file     BitsetSolver.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+
+public class BitsetSolver {
+    /****
+     * The search keeps, at each depth, the set of placements (see PieceCatalog) that could 
+     * still go on the Board: the ones that overlap nothing already there, of Pieces that 
+     * still have a copy left. Putting a placement on the Board takes its precomputed set of 
+     * conflicts out of the set, and, if that was the Piece's last copy, the Piece's set of 
+     * placements too, a few longs at a time. Nothing is ever tried only to find it overlaps.
+     * 
+     * The next cell to cover is the empty one with the fewest placements left that cover it, 
+     * found by counting the bits in (still possible AND covering the cell) for each empty 
+     * cell. When some empty cell can't be covered at all, the search backs up right away, 
+     * however far that cell is from the ones being filled.
+     ****/
+    private final PieceCatalog catalog; // Where the Pieces can go
+    private final int words;            // The longs in a set of placements
+    private final long full;            // The cells to fill
+    private final long[][] possible;    // The placements still possible at each depth
+    private final int[] copies = new int[Piece.N_PIECES];  // The copies of each Piece left
+    private final int[] chosen;         // The placement made at each depth
+    private long nSolutions;            // The number of solutions found so far
+    private SolutionListener listener;  // Who to tell about them
+    private boolean stopped;            // The listener asked to stop (or we hit limit)
+    private long limit;                 // The most solutions to find
+    private long timeLimit;             // The longest (ns) a search may run; 0 ==> no limit
+    private long giveUpAt;              //   and when (System.nanoTime()) the one running gives up
+    private boolean timedOut;           // The last search gave up
+    private SearchStats stats = new SearchStats();                      // Where the searches' counts add up
+    private final SearchStats.Batch counts = new SearchStats.Batch();   // The counts not yet added to stats
+
+    /****
+     * 
+     * Constructor
+     * 
+     ****/
+    public BitsetSolver() {
+        this(Piece.CATALOG, Board.FULL);
+    }
+
+    /****
+     * 
+     * Constructor for a Region other than the Board (see Tiling and CatalogCache). Only 
+     * count() makes sense for one: a Solution is a layout of the Board.
+     * 
+     * @param catalog   Where the Pieces can go in the Region
+     * @param cells     The cells of the Region, numbered the way the catalog numbers them
+     * 
+     ****/
+    public BitsetSolver(PieceCatalog catalog, long cells) {
+        this.catalog = catalog;
+        words = catalog.placementWords();
+        full = cells;
+        possible = new long[Long.bitCount(cells) / 3 + 1][words];
+        chosen = new int[Long.bitCount(cells) / 3];
+    }
+
+    /****
+     * Find all the solutions to the puzzle using any combination of Board.CAPACITY Pieces 
+     * from the full set of Pieces plus extras (which will be repeats, of course) as requested. 
+     * Each solution is found just once: a placement is a Piece in a position, not a copy of 
+     * it.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution
+     * @return          The number of solutions found
+     */
+    public long solve(int[] extras, SolutionListener listener) {
+        if (catalog != Piece.CATALOG) {
+            throw new IllegalStateException("Only a BitsetSolver for the Board has Solutions to report.");
+        }
+        return run(withExtras(extras), listener, Long.MAX_VALUE);
+    }
+
+    /****
+     * Count the ways to fill the Region using any combination of the full set of Pieces plus 
+     * extras, without reporting them.
+     * 
+     * @param extras    The numbers of the Pieces to repeat. null ==> Don't repeat any.
+     * @return          The number of ways
+     */
+    public long count(int[] extras) {
+        return run(withExtras(extras), null, Long.MAX_VALUE);
+    }
+
+    /****
+     * Find all the ways to fill the Board using Pieces from a given multiset of them: at most 
+     * copies[pNo] of Piece pNo, not necessarily all of them. (For a set of Board.CAPACITY 
+     * Pieces, that means using every one.)
+     * 
+     * @param counts    The number of copies of each Piece there are, by Piece number
+     * @param listener  Who to tell about each solution. null ==> Just count them.
+     * @return          The number of solutions found
+     */
+    public long solveFor(int[] counts, SolutionListener listener) {
+        if (listener != null && catalog != Piece.CATALOG) {
+            throw new IllegalStateException("Only a BitsetSolver for the Board has Solutions to report.");
+        }
+        return run(counts, listener, Long.MAX_VALUE);
+    }
+
+    /****
+     * Count the ways to fill the Region using at most counts[pNo] copies of each Piece pNo, 
+     * stopping once there are limit of them. (PuzzleDesigner only needs to know whether 
+     * there are none, one or more.)
+     * 
+     * @param counts    The number of copies of each Piece there are, by Piece number
+     * @param limit     The most to count
+     * @return          The number of ways, at most limit
+     */
+    public long countFor(int[] counts, long limit) {
+        return run(counts, null, limit);
+    }
+
+    /****
+     * Return the multiset of Pieces that is the full set plus extras.
+     * 
+     * @param extras    The numbers of the Pieces to repeat. null ==> Don't repeat any.
+     * @return          The number of copies of each Piece, by Piece number
+     */
+    private static int[] withExtras(int[] extras) {
+        int[] answer = new int[Piece.N_PIECES];
+        Arrays.fill(answer, 1);
+        if (extras != null) {
+            for (int e : extras) {
+                answer[e]++;
+            }
+        }
+        return answer;
+    }
+
+    /****
+     * Do the search solve(), count() and solveFor() describe.
+     * 
+     * @param available The number of copies of each Piece there are, by Piece number
+     * @param listener  Who to tell about each solution. null ==> Just count them.
+     * @param limit     The most solutions to find
+     * @return          The number of solutions found
+     */
+    private long run(int[] available, SolutionListener listener, long limit) {
+        System.arraycopy(available, 0, copies, 0, Piece.N_PIECES);
+        Arrays.fill(possible[0], 0L);
+        for (int pNo = 0; pNo < Piece.N_PIECES; pNo++) {
+            if (copies[pNo] == 0) {
+                continue;
+            }
+            long[] of = catalog.placementsOf(pNo);
+            for (int w = 0; w < words; w++) {
+                possible[0][w] |= of[w];
+            }
+        }
+        nSolutions = 0;
+        this.listener = listener;
+        this.limit = limit;
+        stopped = limit <= 0;
+        timedOut = false;
+        giveUpAt = System.nanoTime() + timeLimit;
+        if (Long.bitCount(full) % 3 == 0 && !stopped) {
+            search(0, 0L);
+        }
+        stats.add(counts);
+        return nSolutions;
+    }
+
+    /****
+     * A slightly nicer single extra Piece version of solve(int[] extras, listener).
+     * 
+     * @param extra     The number of the Piece to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. -1 ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution
+     * @return          The number of solutions found
+     */
+    public long solve(int extra, SolutionListener listener) {
+        int[] extras = {extra};
+        return solve(extra == -1 ? null : extras, listener);
+    }
+
+    /****
+     * Make each search give up once it has run for a given time (SolverService doesn't let 
+     * one question tie up a thread for ever). A search that gives up returns what it had 
+     * found by then, and isTimedOut() says so.
+     * 
+     * @param ms    The time in milliseconds. 0 ==> no limit.
+     */
+    public void setTimeLimit(long ms) {
+        timeLimit = ms * 1_000_000;
+    }
+
+    /****
+     * Return whether the last search gave up because it ran out of time (see setTimeLimit())
+     * 
+     * @return      true if so
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /****
+     * Have the searches add what they count to a given SearchStats rather than to the one 
+     * of its own the BitsetSolver starts out with.
+     * 
+     * @param stats     The SearchStats
+     */
+    public void setStats(SearchStats stats) {
+        this.stats = stats;
+    }
+
+    /****
+     * Return the SearchStats the searches add what they count to. Every placement tried 
+     * fits, so none is rejected; a dead end is a placement after which some empty cell 
+     * couldn't be covered any more.
+     * 
+     * @return      The SearchStats
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /****
+     * Cover the empty cell with the fewest ways left to cover it in each of those ways and, 
+     * for each, go on to fill the rest of the Board.
+     * 
+     * @param depth     The number of Pieces on the Board
+     * @param filled    The cells they cover
+     */
+    private void search(int depth, long filled) {
+        if (filled == full) {
+            reportSolution(depth);
+            return;
+        }
+        long[] now = possible[depth];
+        int cell = -1;
+        int fewest = Integer.MAX_VALUE;
+        for (long empty = ~filled & full; empty != 0L; empty &= empty - 1) {
+            int c = Long.numberOfTrailingZeros(empty);
+            long[] cover = catalog.placementsCovering(c);
+            int n = 0;
+            for (int w = 0; w < words; w++) {
+                n += Long.bitCount(now[w] & cover[w]);
+            }
+            if (n < fewest) {
+                fewest = n;
+                cell = c;
+                if (n <= 1) {                       // (Can't do better than that)
+                    break;
+                }
+            }
+        }
+        if (fewest == 0) {
+            counts.deadEnds++;
+            if (depth < Board.CAPACITY) {
+                counts.backtracksByDepth[depth]++;
+            }
+            return;
+        }
+        long[] cover = catalog.placementsCovering(cell);
+        long[] next = possible[depth + 1];
+        for (int w = 0; w < words && !stopped; w++) {
+            for (long bits = now[w] & cover[w]; bits != 0L && !stopped; bits &= bits - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(bits);
+                int pNo = catalog.pieceOf(i);
+                counts.tried++;
+                counts.nodes++;
+                if (depth < Board.CAPACITY) {      // (A bigger Region's extra depths aren't counted)
+                    counts.nodesByDepth[depth]++;
+                }
+                if (counts.nodes >= SearchStats.FLUSH_EVERY) {
+                    stats.add(counts);
+                    if (timeLimit > 0 && System.nanoTime() - giveUpAt >= 0) {
+                        timedOut = stopped = true;  // (Looking at the clock as often as this is plenty)
+                    }
+                }
+                long[] conflicts = catalog.conflictsWith(i);
+                if (--copies[pNo] == 0) {
+                    long[] of = catalog.placementsOf(pNo);
+                    for (int k = 0; k < words; k++) {
+                        next[k] = now[k] & ~(conflicts[k] | of[k]);
+                    }
+                } else {
+                    for (int k = 0; k < words; k++) {
+                        next[k] = now[k] & ~conflicts[k];
+                    }
+                }
+                chosen[depth] = i;
+                search(depth + 1, filled | catalog.placementMask(i));
+                copies[pNo]++;
+            }
+        }
+        if (depth < Board.CAPACITY) {
+            counts.backtracksByDepth[depth]++;
+        }
+    }
+
+    /****
+     * Hand the solution to the listener.
+     * 
+     * @param depth     The number of placements in the solution
+     */
+    private void reportSolution(int depth) {
+        nSolutions++;
+        counts.solutions++;
+        stopped = nSolutions >= limit;
+        if (listener == null) {
+            return;
+        }
+        int[] pNos = new int[depth];
+        int[] pos = new int[depth];
+        for (int d = 0; d < depth; d++) {
+            pNos[d] = catalog.pieceOf(chosen[d]);
+            pos[d] = catalog.positionOf(chosen[d]);
+        }
+        Solution s = new Solution(pNos, pos, depth);
+        SolutionEvent.commit(s);
+        stopped |= !listener.solutionFound(s);
+    }
+}
@@ -0,0 +1,1104 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the Board class
+ * 
+ * =====
+ *
+ *  @file     Board.java 
+ * 
+ *  @version  Version 1.0.0, October 2022
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class Board {
+
+    public static final int WIDTH = 8;                          // The width of a board in cells
+    public static final int HEIGHT = 6;                         // The height of a board in cells
+    public static final int CAPACITY = (WIDTH * HEIGHT) / 3;    // Number of Pieces on a full Board
+    public static final long FULL = (1L << (WIDTH * HEIGHT)) - 1; // The occupancy of a full Board
+    private static final long LEFT = 0x0101010101010101L & FULL;  // The cells in the leftmost column
+    private static final long RIGHT = LEFT << (WIDTH - 1);      //   and in the rightmost one
+    private static final int MEMO_DEPTH = 10;                   // solveByCell() uses its memo above this depth
+    private static final int CLOCK_CHECK_EVERY = 4096;          // solveForSet() loop passes between looks at 
+                                                                //   the clock when checkpointing
+    private static final int DONATION_CHECK_EVERY = 1024;       //   and between asking whether work is wanted
+
+    private final PrintStream out;                              // Where solutions get printed by default
+    private long occupied;                                      // The occupied cells of the board. Cell (x, y) 
+                                                                //   is bit (y * WIDTH + x)
+    private Piece[] onBoard = new Piece[CAPACITY];              // The Pieces currently on the board
+    private int[] onBoardPos = new int[CAPACITY];               //   and the position each of them is in
+    private int nOnBoard;                                       // How many of them there are
+    private int[] curPos = new int[CAPACITY];                   // Scratch for solveForSet(): the position 
+                                                                //   cursor for pieces[i]; -1 => not positioned
+    private boolean[] placed = new boolean[CAPACITY];           // Scratch for solveForSet(): placed[i] => 
+                                                                //   pieces[i] is on the board
+    private int[] lowerCopy = new int[CAPACITY];                // Scratch for solveForSet(): index of the 
+                                                                //   previous copy of pieces[i] or -1
+    private int[] posLimit = new int[CAPACITY];                 // Scratch for solveForSet(): the position 
+                                                                //   after the last one to try pieces[i] at
+    private int floor;                                          // Scratch for solveForSet(): the index of the 
+                                                                //   Piece whose positions running out ends it
+    private BooleanSupplier donationWanted;                     // Who solveForSet() asks whether to give away 
+    private Consumer<SearchRange> donations;                    //   work and who it gives it to (null ==> 
+    private int untilDonationCheck;                             //   nobody), and passes before it next asks
+    private boolean pruneDeadRegions = true;                    // Whether solveForSet() checks for dead regions
+    private SearchStats stats = new SearchStats();              // Where the searches' counts add up
+    private final SearchStats.Batch counts = new SearchStats.Batch();   // The counts not yet added to stats
+    private boolean stopped;                                    // A SolutionListener asked to stop (or we hit limit)
+    private long limit;                                         // Scratch for solveByCell(): stop after this many
+    private long nFound;                                        //   solutions; how many have been found so far
+    private int[] available = new int[Piece.N_PIECES];          // Scratch for solveByCell(): how many of each
+                                                                //   Piece aren't on the board yet
+    private int[] usedNo = new int[CAPACITY];                   // Scratch for solveByCell(): the Piece number 
+    private int[] usedPos = new int[CAPACITY];                  //   and position placed at each depth
+    private long availableKey;                                  // Scratch for solveByCell(): available[] 
+                                                                //   4 bits per Piece, the memo's key
+    private long fillNodes;                                     //   and the nodes fillFrom() has visited
+    private int spareFrom;                                      // Scratch for solveWithSpares(): placing 
+    private int nSpares;                                        //   a Piece with at most spareFrom copies 
+                                                                //   left uses one of the nSpares spare 
+                                                                //   copies left (-1 ==> there's no limit)
+    private long memoTag;                                       //   and spareFrom + 1 moved clear of the 
+                                                                //   cells, to tell memo entries apart
+    private TranspositionTable memo;                            // What solveByCell() remembers (null ==> none)
+    private Consumer<SearchFrontier> checkpoints;               // Who solve() tells where it's got to now and 
+    private long checkpointInterval;                            //   then (null ==> nobody), how often (ns) 
+    private long nextCheckpoint;                                //   and when next (System.nanoTime())
+    private int untilClockCheck;                                // Loop passes before solveForSet() next looks
+    private int[] sweepExtras;                                  // Scratch for solve(): the extras, 
+    private int nCombinations;                                  //   the number of combinations generated,
+    private int curCombination = -1;                            //   the one being solved (-1 ==> none)
+    private SearchFrontier resumeFrom;                          //   and where to carry on from (null ==> start)
+
+    /****
+     * 
+     * Constructor
+     * 
+     ****/
+    public Board(){
+        this(System.out);
+    }
+
+    /****
+     * 
+     * Constructor for a Board that, unless given a SolutionListener, prints what it finds 
+     * somewhere other than System.out
+     * 
+     * @param out   Where to print solutions
+     * 
+     ****/
+    public Board(PrintStream out){
+        this.out = out;
+        occupied = 0L;
+        nOnBoard = 0;
+    }
+
+    /****
+     * Attempt to place Piece p in a given position on the Board. If the cells it would occupy 
+     * are not currently empty, do nothing and return false. Else place the Piece on the Board and 
+     * return true.
+     * 
+     * @param p     The Piece to be placed.
+     * @param pos   The position to place it in: 0..Piece.positionsFor(p.pNum) - 1
+     * @return      Return true if it fits, false if not
+     */
+    public boolean tryToPlace(Piece p, int pos) {
+        long mask = p.getMask(pos);
+        if ((occupied & mask) != 0L) {
+            return false;
+        }
+        occupied |= mask;
+        onBoard[nOnBoard] = p;
+        onBoardPos[nOnBoard++] = pos;
+        return true;
+    }
+
+    /***
+     * Remove Piece p from the board.
+     * 
+     * @param p     The piece to remove
+     * @throws IllegalStateException if the piece isn't on the board
+     */
+    public void removePiece(Piece p) {
+        int i = nOnBoard - 1;                       // Pieces normally come off in the reverse of the 
+        while (i >= 0 && onBoard[i] != p) {         //   order they went on, so look from the top down
+            i--;
+        }
+        if (i < 0) {
+            throw new IllegalStateException("Attempted to remove Piece " + p.pName + ", which isn't on the Board.");
+        }
+        occupied &= ~p.getMask(onBoardPos[i]);
+        nOnBoard--;
+        onBoard[i] = onBoard[nOnBoard];
+        onBoardPos[i] = onBoardPos[nOnBoard];
+        onBoard[nOnBoard] = null;
+    }
+    
+    /***
+     * Exercise a piece by marching it through each of its positions on the board,
+     * printing the board at each positon. At the end, the board is clear. This is 
+     * a test method used to verify that the piece is placed correctly on the Board 
+     * at each of its position.
+     * 
+     * @param p     The Piece to be exercised
+     */
+    public void exercisePiece(Piece p) {
+        for (int pos = 0; pos < Piece.positionsFor(p.pNum); pos++) {
+            if (tryToPlace(p, pos)) {
+                out.printf("Position %d\n", pos);
+                out.println(toString());
+                removePiece(p);
+            }
+        }
+    }
+
+    /****
+     * Find all of the possible solutions to a puzzle based on the given set of 
+     * 16 Pieces. Not all of the Pieces are necessarily distinct. Solutions that just 
+     * swap the positions of the non-distinct Pieces aren't looked for: a later copy 
+     * of a Piece is only ever put at a higher numbered position than the earlier one.
+     * 
+     * @param pieces    The set of 16 pieces to use for the solution(s)
+     * @return          Returns true if at least one solution was found, false if not
+     */
+    public boolean solveForSet(Piece[] pieces) {
+        return solveForSet(pieces, Piece.NOT_POSITIONED, new SolutionPrinter(out));
+    }
+
+    /****
+     * Find all of the possible solutions to a puzzle based on the given set of 16 Pieces 
+     * in which the first Piece is at a given position. Running this for each position of 
+     * pieces[0] finds, in the same order, the same solutions as solveForSet(pieces).
+     * 
+     * @param pieces    The set of 16 pieces to use for the solution(s)
+     * @param firstPos  The position pieces[0] is to be at. Piece.NOT_POSITIONED ==> any.
+     * @param listener  Who to tell about each solution. If it says to stop, the search ends 
+     *                  there (and so does any solve() this is part of).
+     * @return          Returns true if at least one solution was found, false if not
+     */
+    public boolean solveForSet(Piece[] pieces, int firstPos, SolutionListener listener) {
+        if (firstPos == Piece.NOT_POSITIONED) {
+            return solveForSet(pieces, listener, null, null);
+        }
+        return solveForSet(pieces, new SearchRange(new int[0], firstPos, firstPos + 1), listener);
+    }
+
+    /****
+     * Find the solutions to a puzzle based on the given set of 16 Pieces in a part of the 
+     * search solveForSet(pieces) does: with the first Pieces at the positions range gives and 
+     * the next one at a position in its range. Running this for each of a set of ranges that 
+     * between them cover the search finds the same solutions, and running them in order 
+     * finds them in the same order.
+     * 
+     * @param pieces    The set of 16 pieces to use for the solution(s)
+     * @param range     The part of the search to do
+     * @param listener  Who to tell about each solution. If it says to stop, the search ends 
+     *                  there.
+     * @return          Returns true if at least one solution was found, false if not
+     */
+    public boolean solveForSet(Piece[] pieces, SearchRange range, SolutionListener listener) {
+        return solveForSet(pieces, listener, range, null);
+    }
+
+    /****
+     * Have solveForSet() offer to give away part of the work it has left every so often. 
+     * When wanted says yes, it splits off the back half of the remaining positions of the 
+     * Piece nearest the start of the set that has any left, and hands them to taker as a 
+     * SearchRange: it won't search them itself. The solutions in each range handed over come 
+     * after those solveForSet() goes on to find itself, and each range comes after the ones 
+     * handed over after it.
+     * 
+     * @param wanted    Who to ask whether work is wanted; null ==> never give any away
+     * @param taker     Who to give it to
+     */
+    public void setDonations(BooleanSupplier wanted, Consumer<SearchRange> taker) {
+        donationWanted = wanted;
+        donations = taker;
+        untilDonationCheck = DONATION_CHECK_EVERY;
+    }
+
+    /****
+     * Make one random probe of the tree solveForSet(pieces) searches and return the estimate 
+     * it gives of the number of nodes in it (see getNodeCount()). It goes down one path, 
+     * picking each Piece's position at random from the ones the search would go on from, 
+     * and counts each level's nodes as though every node above had as many children as the 
+     * one on the path (Knuth's estimator). Each probe's estimate is as likely to be high as 
+     * low, so the mean of many is a fair estimate of the whole tree.
+     * 
+     * @param pieces    The set of 16 pieces solveForSet() would use
+     * @param random    Where the choices come from
+     * @return          The estimated number of nodes
+     */
+    public double estimateNodes(Piece[] pieces, Random random) {
+        int[] pos = new int[pieces.length];
+        for (int i = 0; i < pieces.length; i++) {
+            lowerCopy[i] = -1;
+            for (int j = 0; j < i; j++) {
+                if (pieces[j].pNum == pieces[i].pNum) {
+                    lowerCopy[i] = j;
+                }
+            }
+        }
+        double answer = 0.0;
+        double weight = 1.0;                                // The nodes estimated at the level above
+        for (int depth = 0; depth < pieces.length; depth++) {
+            int[] viable = new int[Piece.positionsFor(pieces[depth].pNum)];
+            int nFit = 0;
+            int nViable = 0;
+            int from = lowerCopy[depth] >= 0 ? pos[lowerCopy[depth]] + 1 : 0;
+            for (int p = from; p < Piece.positionsFor(pieces[depth].pNum); p++) {
+                if (tryToPlace(pieces[depth], p)) {         // A node, as solveForSet() counts them
+                    nFit++;
+                    if (!pruneDeadRegions || depth + 1 >= pieces.length || !hasDeadRegion(pieces, depth + 1)) {
+                        viable[nViable++] = p;              //   and one it would go on from
+                    }
+                    removePiece(pieces[depth]);
+                }
+            }
+            answer += weight * nFit;
+            if (nViable == 0) {
+                break;
+            }
+            weight *= nViable;
+            pos[depth] = viable[random.nextInt(nViable)];
+            tryToPlace(pieces[depth], pos[depth]);
+        }
+        while (nOnBoard > 0) {
+            removePiece(onBoard[nOnBoard - 1]);
+        }
+        return answer;
+    }
+
+    /****
+     * The guts of solveForSet(pieces, range, listener), which can also carry on from 
+     * where an earlier search of the same set of Pieces had got to.
+     * 
+     * @param pieces    The set of 16 pieces to use for the solution(s)
+     * @param listener  Who to tell about each solution
+     * @param range     The part of the search to do; null ==> all of it
+     * @param from      Where the earlier search had got to; null ==> start from the beginning
+     * @return          Returns true if at least one solution was found (including by the 
+     *                  earlier search), false if not
+     */
+    private boolean solveForSet(Piece[] pieces, SolutionListener listener, SearchRange range, SearchFrontier from) {
+        assert pieces.length == 16 : "The size of set of Pieces isn't the expected 16.";
+        int curPiece = 0;
+        Arrays.fill(curPos, Piece.NOT_POSITIONED);
+        Arrays.fill(placed, false);
+        int nPlaced = 0;
+        boolean running = true;
+        boolean solved = false;
+        for (int i = 0; i < pieces.length; i++) {
+            posLimit[i] = Piece.positionsFor(pieces[i].pNum);
+            lowerCopy[i] = -1;
+            for (int j = 0; j < i; j++) {
+                if (pieces[j].pNum == pieces[i].pNum) {
+                    lowerCopy[i] = j;
+                }
+            }
+        }
+
+        floor = 0;
+        if (range != null) {
+            int[] prefix = range.getPrefix();               // Put the Pieces above the range on the board
+            for (int i = 0; i < prefix.length; i++) {
+                curPos[i] = prefix[i];
+                boolean fits = tryToPlace(pieces[i], prefix[i]);
+                assert fits : "The search range's Pieces don't fit on the Board.";
+                placed[i] = true;
+                nPlaced++;
+            }
+            floor = curPiece = prefix.length;
+            curPos[floor] = range.getFrom() - 1;            //   (Carrying on "after" the one before the range)
+            posLimit[floor] = Math.min(range.getTo(), posLimit[floor]);
+        }
+
+        if (from != null && from.getPositions().length > 0) {
+            int[] resume = from.getPositions();            // Put back the Pieces that were on the board, 
+            for (int i = 0; i < resume.length; i++) {       //   all but the last. That one carries on 
+                curPos[i] = resume[i];                      //   from the position after the one it was in.
+                if (i < resume.length - 1) {
+                    boolean fits = tryToPlace(pieces[i], resume[i]);
+                    assert fits : "The search frontier doesn't fit on the Board.";
+                    placed[i] = true;
+                    nPlaced++;
+                }
+            }
+            curPiece = resume.length - 1;
+            solved = from.isSolved();
+        }
+
+        while (running) {
+            if (checkpoints != null && curCombination >= 0 && --untilClockCheck <= 0) {
+                checkpoint(curPiece, solved);
+            }
+            if (donations != null && --untilDonationCheck <= 0) {
+                donate(curPiece);
+            }
+            if (placed[curPiece]) {                         // If the current piece is placed on the board, remove it
+                removePiece(pieces[curPiece]);
+                placed[curPiece] = false;
+                nPlaced--;
+            }
+            curPos[curPiece]++;                             // Move the current piece to its next position
+            if (curPos[curPiece] >= posLimit[curPiece]) {
+                curPos[curPiece] = Piece.NOT_POSITIONED;    //   (Past the last one, it's "not positioned")
+            }
+            if (curPos[curPiece] >= 0) {                    // If the next position wasn't "not positioned"
+                if (lowerCopy[curPiece] >= 0 &&             //   Skip it if it's a copy not past the earlier copy
+                    curPos[curPiece] <= curPos[lowerCopy[curPiece]]) {
+                    counts.pruned++;
+                } else if (tryToPlace(pieces[curPiece], curPos[curPiece])) {  //   Otherwise try to place it. If that works
+                    counts.tried++;
+                    counts.nodes++;
+                    counts.nodesByDepth[nPlaced]++;
+                    if (counts.nodes >= SearchStats.FLUSH_EVERY) {
+                        stats.add(counts);
+                    }
+                    if (pruneDeadRegions && nPlaced + 1 < pieces.length && hasDeadRegion(pieces, curPiece + 1)) {
+                        removePiece(pieces[curPiece]);      //     But if it leaves a hole nothing can fill, take 
+                        counts.deadEnds++;                  //       it back out and go on to the next position
+                    } else {
+                        placed[curPiece] = true;
+                        nPlaced++;
+                        if (nPlaced >= pieces.length) {     //     Report the solution if enough pieces placed
+                            solved = true;                  //      And note there was a solution
+                            counts.solutions++;
+                            Solution s = toSolution();
+                            SolutionEvent.commit(s);
+                            if (!listener.solutionFound(s)) {
+                                stopped = true;
+                                running = false;
+                            }
+                        }
+                        if (curPiece < pieces.length - 1) { //     If not the highest numbered piece, switch to working
+                            curPiece++;                     //       on the next higher numbered piece.
+                        }
+                    }
+                } else {                                    //   (It overlaps something already there)
+                    counts.tried++;
+                    counts.rejected++;
+                }
+            } else {                                        // Otherwise (current piece moved to "not positioned")
+                counts.backtracksByDepth[curPiece]++;
+                if (curPiece == floor) {
+                    running = false;                        //   If it was piece 0 (or the range's), we're done.
+                } else {
+                    curPiece--;                             //   Otherwise, start looking for a place for the next lower piece
+                }
+            }
+        }
+        while (nOnBoard > 0) {                              // If we were stopped early, clear the board
+            removePiece(onBoard[nOnBoard - 1]);
+        }
+        stats.add(counts);
+        return solved;
+    }
+
+    /****
+     * If it's time, tell the checkpoint consumer where solveForSet() has got to. Called at 
+     * the top of its loop, when pieces[0..curPiece - 1] are on the Board and curPiece is the 
+     * one to move on.
+     * 
+     * @param curPiece  The index of the Piece solveForSet() is working on
+     * @param solved    Whether the combination has had a solution yet
+     */
+    private void checkpoint(int curPiece, boolean solved) {
+        untilClockCheck = CLOCK_CHECK_EVERY;
+        long now = System.nanoTime();
+        if (now - nextCheckpoint >= 0) {
+            checkpoints.accept(new SearchFrontier(sweepExtras, curCombination, solved, Arrays.copyOf(curPos, curPiece + 1)));
+            nextCheckpoint = now + checkpointInterval;
+        }
+    }
+
+    /****
+     * If work is wanted, give away the back half of what's left of the positions of the 
+     * Piece nearest the start of the set that has any left (see setDonations()). Called at 
+     * the top of solveForSet()'s loop, when pieces[0..curPiece - 1] are on the Board.
+     * 
+     * @param curPiece  The index of the Piece solveForSet() is working on
+     */
+    private void donate(int curPiece) {
+        untilDonationCheck = DONATION_CHECK_EVERY;
+        for (int i = floor; i <= curPiece; i++) {
+            int left = posLimit[i] - curPos[i] - 1;         // (The positions after the one it's at)
+            if (curPos[i] >= 0 && left > 0) {
+                if (!donationWanted.getAsBoolean()) {
+                    return;
+                }
+                int mid = posLimit[i] - (left + 1) / 2;
+                donations.accept(new SearchRange(Arrays.copyOf(curPos, i), mid, posLimit[i]));
+                posLimit[i] = mid;
+                return;
+            }
+        }
+    }
+
+    /****
+     * Have solve() tell a consumer where it has got to every so often, so that if the 
+     * process dies, a later solve() can carry on from there rather than starting over. It 
+     * costs next to nothing between times.
+     * 
+     * @param consumer      Who to tell; null ==> stop telling anyone
+     * @param intervalMs    How often, in milliseconds
+     */
+    public void setCheckpoints(Consumer<SearchFrontier> consumer, long intervalMs) {
+        checkpoints = consumer;
+        checkpointInterval = intervalMs * 1_000_000;
+        nextCheckpoint = System.nanoTime() + checkpointInterval;
+        untilClockCheck = CLOCK_CHECK_EVERY;
+    }
+
+    /****
+     * Return whether the empty part of the Board can't possibly be filled by the Pieces that 
+     * are left. Every Piece covers exactly three cells, and the cells of a Piece always touch 
+     * each other at least at a corner. So it's hopeless if any group of empty cells that 
+     * touch one another (at edges or corners) has a number of cells that isn't a multiple 
+     * of three, or if there's an empty cell that none of the remaining Pieces can cover.
+     * 
+     * @param pieces    The Pieces being used
+     * @param from      The index in pieces[] of the first one not on the Board. The rest 
+     *                  aren't either.
+     * @return          true if the Board can't be filled
+     */
+    private boolean hasDeadRegion(Piece[] pieces, int from) {
+        long empty = FULL & ~occupied;
+        long rest = empty;
+        while (rest != 0L) {
+            long region = rest & -rest;                 // Flood fill from the lowest empty cell
+            long prev;
+            do {
+                prev = region;
+                region |= ((region << 1) & ~LEFT) | ((region >>> 1) & ~RIGHT);
+                region |= (region << WIDTH) | (region >>> WIDTH);
+                region &= empty;
+            } while (region != prev);
+            if (Long.bitCount(region) % 3 != 0) {
+                return true;
+            }
+            rest &= ~region;
+        }
+
+        long coverable = 0L;
+        for (int i = from; i < pieces.length; i++) {
+            if (lowerCopy[i] >= from) {                 // A copy covers what the earlier copy does
+                continue;
+            }
+            int pNo = pieces[i].pNum;
+            for (int pos = 0; pos < Piece.positionsFor(pNo); pos++) {
+                long mask = Piece.CATALOG.maskFor(pNo, pos);
+                if ((mask & occupied) == 0L) {
+                    coverable |= mask;
+                }
+            }
+        }
+        return (empty & ~coverable) != 0L;
+    }
+
+    /****
+     * Turn the dead region check in solveForSet() on or off. It's on unless turned off. 
+     * It never changes what's found, only how long it takes to find it.
+     * 
+     * @param on    true to check, false not to
+     */
+    public void setDeadRegionPruning(boolean on) {
+        pruneDeadRegions = on;
+    }
+
+    /****
+     * Have the searches on this Board add what they count to a given SearchStats rather than 
+     * to the one of its own the Board starts out with. Any number of Boards, in any number of 
+     * threads, can share one.
+     * 
+     * @param stats     The SearchStats
+     */
+    public void setStats(SearchStats stats) {
+        this.stats = stats;
+    }
+
+    /****
+     * Return the SearchStats the searches on this Board add what they count to.
+     * 
+     * @return      The SearchStats
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /****
+     * Return the number of placements the searches have made so far, i.e., the number of 
+     * nodes in the search trees they've visited (see getStats()).
+     * 
+     * @return      The number of nodes
+     */
+    public long getNodeCount() {
+        return stats.getNodeCount();
+    }
+
+    /****
+     * Have solveByCell(), count() and isSolvable() remember, in memo, what they find out about 
+     * the states they go through, and use what's already there. The same TranspositionTable 
+     * can be handed to one Board after another, but only to one at a time.
+     * 
+     * @param memo      The TranspositionTable. null ==> don't remember anything (the default).
+     */
+    public void setTranspositionTable(TranspositionTable memo) {
+        this.memo = memo;
+    }
+
+    /****
+     * Return the TranspositionTable solveByCell() uses.
+     * 
+     * @return      The TranspositionTable, or null if there isn't one
+     */
+    public TranspositionTable getTranspositionTable() {
+        return memo;
+    }
+
+    /****
+     * Return the number of placements solveForSet() has taken back so far because they 
+     * left part of the Board impossible to fill. Each is a subtree not searched.
+     * 
+     * @return      The number of dead ends
+     */
+    public long getDeadEndCount() {
+        return stats.getDeadEndCount();
+    }
+
+    /****
+     * Generate all the combinations of Pieces from piece that fit into curComb (i.e., all the 
+     * combinations of pieces.length taken curComb.length at a time), and for each, find all the 
+     * solutions using the combination of Pieces in cueComb.
+     * 
+     * Many thanks to https://www.geeksforgeeks.org/print-all-possible-combinations-of-r-elements-in-a-given-array-of-size-n/
+     * for publishing the algorithm.
+     * 
+     * @param pieces    The array containing the full set of Pieces
+     * @param curComb   The array used as a buffer in which to generate the combinations
+     * @param start     Current starting index in pieces[] (Set this to 0 initially)
+     * @param end       Current ending index in pieces[] (Set this to pieces.length - 1 initially)
+     * @param index     Current index in curComb[] (Set this to 0 initially)
+     * @param listener  Who to tell about each solution and each finished combination
+     */
+    private void combUtil(
+        Piece pieces[], Piece curComb[], int start, int end, int index, SolutionListener listener) {
+        int m = curComb.length;
+        if (index == m) {                       // If curComb is ready,
+            int comb = nCombinations++;
+            if (resumeFrom != null && comb < resumeFrom.getCombination()) {
+                return;                         //   Skip it if it was done before we were resumed
+            }
+            if (repeatsCombination(pieces, curComb)) {
+                counts.skipped++;               //   Skip it if it's the same as one we've done
+                return;
+            }
+            //   Find all the solutions to the puzzle using curComb combination of pieces
+            CombinationEvent event = new CombinationEvent();
+            event.begin();
+            curCombination = comb;
+            boolean solved = solveForSet(curComb, listener, null, resumeFrom);
+            curCombination = -1;
+            resumeFrom = null;
+            counts.combinations++;
+            stats.add(counts);
+            event.commit(curComb, solved);
+            listener.combinationDone(curComb, solved);
+            return;
+        }
+ 
+        // Replace index with all possible elements. The condition
+        // "end - i + 1 >= m - index" makes sure that including one element
+        // at index will make a combination with remaining elements
+        // at remaining positions
+        for (int i = start; i <= end && end - i + 1 >= m - index && !stopped; i++) {
+            curComb[index] = pieces[i];
+            combUtil(pieces, curComb, i + 1, end, index + 1, listener);
+        }
+    }
+
+    /****
+     * Return whether a combination of Pieces is the same as one that combUtil() has already 
+     * generated (or will). That's the case when it uses a later copy of a repeated Piece 
+     * while leaving out an earlier one.
+     * 
+     * @param pieces    The array containing the full set of Pieces
+     * @param comb      The combination
+     * @return          true if comb is a duplicate
+     */
+    static boolean repeatsCombination(Piece[] pieces, Piece[] comb) {
+        int left = 0;                           // Bit pNum ==> a copy of Piece pNum was left out
+        int c = 0;
+        for (int i = 0; i < pieces.length; i++) {
+            int bit = 1 << pieces[i].pNum;
+            if (c < comb.length && pieces[i] == comb[c]) {
+                if ((left & bit) != 0) {
+                    return true;
+                }
+                c++;
+            } else {
+                left |= bit;
+            }
+        }
+        return false;
+    }
+
+    /****
+     * Generate, in the order Board.solve() goes through them, the indexes into a set of 
+     * nPieces Pieces of all the combinations of Board.CAPACITY of them.
+     * 
+     * @param nPieces   The number of Pieces in the full set
+     * @return          The combinations
+     */
+    static List<int[]> combinations(int nPieces) {
+        List<int[]> answer = new ArrayList<>();
+        int[] comb = new int[Board.CAPACITY];
+        for (int i = 0; i < comb.length; i++) {
+            comb[i] = i;
+        }
+        while (true) {
+            answer.add(comb.clone());
+            int i = comb.length - 1;
+            while (i >= 0 && comb[i] == nPieces - comb.length + i) {
+                i--;
+            }
+            if (i < 0) {
+                return answer;
+            }
+            comb[i]++;
+            for (int j = i + 1; j < comb.length; j++) {
+                comb[j] = comb[j - 1] + 1;
+            }
+        }
+    }
+
+    /****
+     * Return the number of Piece positions solveForSet() has skipped so far because they 
+     * would only have swapped copies of a repeated Piece.
+     * 
+     * @return      The number of pruned positions
+     */
+    public long getPrunedCount() {
+        return stats.getPrunedCount();
+    }
+
+    /****
+     * Return the number of combinations of Pieces solve() has skipped so far because they 
+     * were the same as ones it had already done.
+     * 
+     * @return      The number of skipped combinations
+     */
+    public long getSkippedCount() {
+        return stats.getSkippedCount();
+    }
+
+    /****
+     * Find all the solutions to the puzzle using any combination of Board.CAPACITY 
+     * Pieces from full set of Pieces plus extras (which will be repeats, of course) as 
+     * requested, and print them.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     */
+    public void solve(int[] extras) {
+        solve(extras, new SolutionPrinter(out));
+    }
+
+    /****
+     * Find all the solutions to the puzzle using any combination of Board.CAPACITY 
+     * Pieces from full set of Pieces plus extras (which will be repeats, of course) as 
+     * requested, handing each to listener as it's found.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution and each finished combination
+     * @return          true if the search ran to the end, false if listener stopped it
+     */
+    public boolean solve(int[] extras, SolutionListener listener) {
+        return solve(extras, listener, null);
+    }
+
+    /****
+     * Like solve(extras, listener), but carry on from where an earlier solve(extras, ...) 
+     * had got to, as reported to the consumer given setCheckpoints(). Only what that search 
+     * hadn't already found is found.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution and each finished combination
+     * @param from      Where the earlier search had got to; null ==> start from the beginning
+     * @return          true if the search ran to the end, false if listener stopped it
+     */
+    public boolean solve(int[] extras, SolutionListener listener, SearchFrontier from) {
+        if (from != null && !from.isFor(extras)) {
+            throw new IllegalArgumentException("The search frontier is for different extra pieces.");
+        }
+        Piece[] pieces = Piece.makePieces(extras);      // Make the full set of possible pieces
+        Piece curComb[]=new Piece[Board.CAPACITY];      // A buffer to hold the various subsets of pieces
+                                                        //  we'll be using to try to solve the puzzle
+ 
+        stopped = false;
+        sweepExtras = extras;
+        nCombinations = 0;
+        resumeFrom = from;
+        combUtil(pieces, curComb, 0, pieces.length - 1, 0, listener);
+                                                        // Generate the subsets of the full set of pieces
+                                                        //  and for each, find all possible solutions (if any)
+        stats.add(counts);
+        return !stopped;
+    }
+
+    /****
+     * A slightly nicer single extra Piece version of solve(Pieces[] piece). Find all the 
+     * solutions to the puzzle using any combination of Board.CAPACITY Pieces from full set 
+     * of Pieces plus extra (which will be a repeat, of course).
+     * 
+     * @param extra     The number of the Piece to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. -1 ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution and each finished combination
+     * @return          true if the search ran to the end, false if listener stopped it
+     */
+    public boolean solve(int extra, SolutionListener listener) {
+        int[] extras = {extra};
+        return solve(extra == -1 ? null : extras, listener);
+    }
+
+    /****
+     * Find all the solutions to the puzzle using any Board.CAPACITY of the full set of Pieces 
+     * plus extras in a single search. Rather than trying each combination of Pieces in turn 
+     * the way solve() does, this fills the Board in cell order, trying every Piece that's still 
+     * available in every position that covers the first empty cell. Which Pieces get left out 
+     * falls out of the search. Since copies of a repeated Piece are interchangeable, each 
+     * solution is found just once.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution
+     * @return          The number of solutions found
+     */
+    public int solveByCell(int[] extras, SolutionListener listener) {
+        return (int)solveByCell(extras, listener, Long.MAX_VALUE);
+    }
+
+    /****
+     * Like solveByCell(extras, listener) but stop after the first limit solutions.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution
+     * @param limit     The most solutions to find
+     * @return          The number of solutions found
+     */
+    public long solveByCell(int[] extras, SolutionListener listener, long limit) {
+        makeAvailable(extras);
+        return fill(listener, limit);
+    }
+
+    /****
+     * A slightly nicer single extra Piece version of solveByCell(int[] extras, listener).
+     * 
+     * @param extra     The number of the Piece to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. -1 ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution
+     * @return          The number of solutions found
+     */
+    public int solveByCell(int extra, SolutionListener listener) {
+        int[] extras = {extra};
+        return solveByCell(extra == -1 ? null : extras, listener);
+    }
+
+    /****
+     * Count the solutions to the puzzle using any Board.CAPACITY of the full set of Pieces 
+     * plus extras, without building anything to describe them.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @return          The number of solutions
+     */
+    public long count(int[] extras) {
+        return count(extras, Long.MAX_VALUE);
+    }
+
+    /****
+     * Count the solutions to the puzzle using any Board.CAPACITY of the full set of Pieces 
+     * plus extras, stopping once limit have been found. count(extras, 1) > 0 says whether 
+     * there are any solutions at all.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @param limit     The most solutions to count
+     * @return          The number of solutions, up to limit
+     */
+    public long count(int[] extras, long limit) {
+        makeAvailable(extras);
+        return fill(null, limit);
+    }
+
+    /****
+     * Find all the solutions to the puzzle using any Board.CAPACITY of the full set of Pieces 
+     * plus up to nSpares extra copies, of whichever Pieces, in a single search. That's every 
+     * solution solveByCell(extras, listener) would find for every extras with nSpares Pieces 
+     * in it, but each is found just once, however many of those extras it's a solution for. 
+     * (See ExtrasSweep, which works out which ones from the Pieces each uses.)
+     * 
+     * @param nSpares   The most extra copies a solution may use
+     * @param listener  Who to tell about each solution
+     * @return          The number of solutions found
+     * @throws IllegalArgumentException if nSpares is negative or more than a Piece's copies 
+     *                  can be counted to in the memo's key (14)
+     */
+    public long solveWithSpares(int nSpares, SolutionListener listener) {
+        if (nSpares < 0 || nSpares > 14) {
+            throw new IllegalArgumentException("Can't search with " + nSpares + " spare pieces.");
+        }
+        Arrays.fill(available, 1 + nSpares);
+        availableKey = SolutionStore.multisetKey(available);
+        spareFrom = nSpares;
+        this.nSpares = nSpares;
+        return fill(listener, Long.MAX_VALUE);
+    }
+
+    /****
+     * Return whether there is any way to fill the Board using exactly the given set of 
+     * Board.CAPACITY Pieces.
+     * 
+     * @param pieces    The set of 16 pieces
+     * @return          true if there's at least one solution
+     */
+    public boolean isSolvable(Piece[] pieces) {
+        assert pieces.length == CAPACITY : "The size of set of Pieces isn't the expected 16.";
+        Arrays.fill(available, 0);
+        for (Piece p : pieces) {
+            available[p.pNum]++;
+        }
+        availableKey = SolutionStore.multisetKey(available);
+        spareFrom = -1;
+        return fill(null, 1) > 0;
+    }
+
+    /****
+     * Set up available[] for the full set of Pieces plus extras.
+     * 
+     * @param extras    The numbers of the Pieces to repeat. null ==> none.
+     */
+    private void makeAvailable(int[] extras) {
+        Arrays.fill(available, 1);
+        if (extras != null) {
+            for (int e : extras) {
+                available[e]++;
+            }
+        }
+        availableKey = SolutionStore.multisetKey(available);
+        spareFrom = -1;
+    }
+
+    /****
+     * Run the cell-by-cell search using the Pieces in available[].
+     * 
+     * @param listener  Who to tell about each solution. null ==> just count them.
+     * @param limit     The most solutions to find
+     * @return          The number of solutions found
+     */
+    private long fill(SolutionListener listener, long limit) {
+        stopped = false;
+        this.limit = limit;
+        nFound = 0;
+        memoTag = (long)(spareFrom + 1) << (WIDTH * HEIGHT);
+        if (limit > 0) {
+            fillFrom(0L, 0, listener);
+        }
+        stats.add(counts);
+        return Math.min(nFound, limit);
+    }
+
+    /****
+     * The recursive part of solveByCell(): cover the first empty cell in every way possible 
+     * and, for each, go on to fill the rest of the Board.
+     * 
+     * If there's a TranspositionTable, a state it knows can't be finished is skipped and, when 
+     * just counting, so is one it knows the number of solutions from. Each state whose subtree 
+     * was searched to the end goes into the table.
+     * 
+     * @param filled    The cells that are already covered
+     * @param depth     The number of Pieces already placed
+     * @param listener  Who to tell about each solution. null ==> nobody.
+     */
+    private void fillFrom(long filled, int depth, SolutionListener listener) {
+        if (filled == FULL) {
+            nFound++;
+            counts.solutions++;
+            if (listener != null) {
+                Solution s = new Solution(usedNo, usedPos, depth);
+                SolutionEvent.commit(s);
+                if (!listener.solutionFound(s)) {
+                    stopped = true;
+                }
+            }
+            if (nFound >= limit) {
+                stopped = true;
+            }
+            return;
+        }
+        long nodesBefore = fillNodes;
+        long foundBefore = nFound;
+        if (memo != null && depth < MEMO_DEPTH) {       // (Deeper, looking costs more than redoing)
+            long n = memo.probe(filled | memoTag, availableKey);
+            if (n == 0 || (n > 0 && listener == null)) {
+                nFound += n;
+                counts.solutions += n;
+                if (nFound >= limit) {
+                    stopped = true;
+                }
+                return;
+            }
+        }
+        int cell = Long.numberOfTrailingZeros(~filled);
+        for (int pNo = 0; pNo < Piece.N_PIECES && !stopped; pNo++) {
+            if (available[pNo] == 0) {
+                continue;
+            }
+            boolean spare = available[pNo] <= spareFrom;
+            if (spare && nSpares == 0) {
+                continue;
+            }
+            for (int pos : Piece.CATALOG.positionsStartingAt(pNo, cell)) {
+                long mask = Piece.CATALOG.maskFor(pNo, pos);
+                counts.tried++;
+                if ((filled & mask) != 0L) {
+                    counts.rejected++;
+                } else {
+                    counts.nodes++;
+                    counts.nodesByDepth[depth]++;
+                    fillNodes++;
+                    if (counts.nodes >= SearchStats.FLUSH_EVERY) {
+                        stats.add(counts);
+                    }
+                    available[pNo]--;
+                    availableKey -= 1L << (4 * pNo);
+                    if (spare) {
+                        nSpares--;
+                    }
+                    usedNo[depth] = pNo;
+                    usedPos[depth] = pos;
+                    fillFrom(filled | mask, depth + 1, listener);
+                    available[pNo]++;
+                    availableKey += 1L << (4 * pNo);
+                    if (spare) {
+                        nSpares++;
+                    }
+                    if (stopped) {
+                        break;
+                    }
+                }
+            }
+        }
+        counts.backtracksByDepth[depth]++;
+        if (memo != null && !stopped && depth < MEMO_DEPTH) {
+            memo.store(filled | memoTag, availableKey, nFound - foundBefore, fillNodes - nodesBefore);
+        }
+    }
+
+    /****
+     * Return a Stream of all the solutions to the puzzle using any Board.CAPACITY of the full 
+     * set of Pieces plus extras, as found by solveByCell() on a Board of its own. The search 
+     * stays at most a few solutions ahead of the Stream's consumer, and closing the Stream 
+     * stops it at the next solution it finds.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @return          The Stream of Solutions
+     */
+    public static Stream<Solution> solutions(int[] extras) {
+        return SolutionStream.of(listener -> new Board().solveByCell(extras, listener), 16);
+    }
+
+    /****
+     * Return the pieces on the Board, and where they are, as a Solution.
+     * 
+     * @return      The Solution
+     */
+    private Solution toSolution() {
+        int[] pNos = new int[nOnBoard];
+        for (int i = 0; i < nOnBoard; i++) {
+            pNos[i] = onBoard[i].pNum;
+        }
+        return new Solution(pNos, onBoardPos, nOnBoard);
+    }
+
+    /**
+     * Return the string reperesentation of the Board. The owner of each cell is worked out 
+     * from the Pieces on the Board only when it's asked for.
+     */
+    public String toString() {
+        char[] owner = new char[WIDTH * HEIGHT];
+        Arrays.fill(owner, ' ');
+        for (int i = 0; i < nOnBoard; i++) {
+            for (int j = 0; j < 3; j++) {
+                owner[onBoard[i].getCell(onBoardPos[i], j)] = onBoard[i].pName;
+            }
+        }
+        return render(owner);
+    }
+
+    /**
+     * Return the string representation of a Board given the name of the Piece occupying each 
+     * of its cells.
+     * 
+     * @param owner     The name of the Piece in each cell (or ' '), indexed by cell number
+     *                  (y * WIDTH + x)
+     * @return          The Board as it would be printed by toString()
+     */
+    static String render(char[] owner) {
+        StringBuilder answer = new StringBuilder(" ********\n");
+        for (int y = 0; y < HEIGHT; y++) {
+            answer.append('*');
+            answer.append(owner, y * WIDTH, WIDTH);
+            answer.append("*\n");
+        }
+        answer.append(" ********\n");
+        return answer.toString();
+    }
+}
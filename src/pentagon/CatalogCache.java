@@ -0,0 +1,251 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the CatalogCache class, which keeps the PieceCatalog for each Region in
+ * a small binary file so it only has to be worked out once.
+ * 
+ * =====
+ *
+ *  @file     CatalogCache.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CatalogCache {
+    /****
+     * A catalog file is
+     * 
+     *      int     MAGIC
+     *      int     VERSION
+     *      long    The fingerprint of what the catalog was made from: VERSION, the Tiling's 
+     *              rules, the shapes, and the Region
+     *      short   The width of the Region's bounding box
+     *      short   Its height
+     *      short   The number of Pieces
+     *      then, for each Piece, 
+     *      short   The number of positions
+     *      byte[]  The three cell numbers of each position, unsigned. (A PieceCatalog 
+     *              has at most 64 cells.)
+     * 
+     * The file for a Region is named for its fingerprint, so a change to the rules (or to 
+     * this format, via VERSION) just means different files, and a file whose fingerprint 
+     * doesn't match its name is ignored.
+     ****/
+    private static final int MAGIC = 0x50545043;            // "PTPC"
+    private static final int VERSION = 1;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final Path dir;             // Where the catalog files are
+    private final ConcurrentMap<Region, PieceCatalog> catalogs = new ConcurrentHashMap<>();
+                                        // The catalogs get() has returned, by Region
+    private final LongAdder nLoaded = new LongAdder();      // The number of catalogs read from files
+    private final LongAdder nGenerated = new LongAdder();   //   and worked out from the Tiling
+
+    /****
+     * Constructor
+     * 
+     * @param dir   The directory to keep the catalog files in. It's made if need be.
+     */
+    public CatalogCache(Path dir) {
+        this.dir = dir;
+    }
+
+    /****
+     * Return the PieceCatalog for a Region: from its file if there is one for exactly this 
+     * Region and these rules, otherwise worked out by Tiling.catalogFor() and written to a 
+     * file for next time. Either way, it's kept for the next get() of the same Region. Any 
+     * number of threads can share a CatalogCache: a thread getting a Region's catalog waits 
+     * for one already getting the same Region's, but not for ones getting other Regions'.
+     * 
+     * @param region    The Region
+     * @return          Its PieceCatalog
+     * @throws IOException if the new file can't be written
+     */
+    public PieceCatalog get(Region region) throws IOException {
+        try {
+            return catalogs.computeIfAbsent(region, r -> {
+                try {
+                    return load(r);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /****
+     * Return the PieceCatalog for a Region from its file, or work it out and write the file
+     * 
+     * @param region    The Region
+     * @return          Its PieceCatalog
+     * @throws IOException if the new file can't be written
+     */
+    private PieceCatalog load(Region region) throws IOException {
+        long fingerprint = fingerprint(region);
+        Path file = dir.resolve(String.format("catalog-%016x.bin", fingerprint));
+        if (Files.exists(file)) {
+            PieceCatalog answer = read(file, fingerprint);
+            if (answer != null) {
+                nLoaded.increment();
+                return answer;
+            }
+        }
+        PieceCatalog answer = Tiling.catalogFor(region);
+        Files.createDirectories(dir);
+        write(file, fingerprint, answer);
+        nGenerated.increment();
+        return answer;
+    }
+
+    /****
+     * @return  The number of catalogs get() has read from files
+     */
+    public long getLoadedCount() {
+        return nLoaded.sum();
+    }
+
+    /****
+     * @return  The number of catalogs get() has had to work out
+     */
+    public long getGeneratedCount() {
+        return nGenerated.sum();
+    }
+
+    /****
+     * Return the fingerprint of everything the catalog for a Region is made from
+     * 
+     * @param region    The Region
+     * @return          The fingerprint
+     */
+    static long fingerprint(Region region) {
+        return region.fingerprint(Tiling.fingerprint(mix(FNV_OFFSET, VERSION)));
+    }
+
+    /****
+     * Add a value to a fingerprint (FNV-1a over its low 32 bits, a byte at a time)
+     * 
+     * @param h     The fingerprint so far
+     * @param v     The value
+     * @return      The new fingerprint
+     */
+    static long mix(long h, int v) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            h ^= (v >>> (8 * i)) & 0xFF;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    /****
+     * Write a catalog file. It's written to a temporary file first, one no other process on 
+     * any machine will pick, and then moved into place, so a reader never sees half of one.
+     * 
+     * @param file          The file
+     * @param fingerprint   The fingerprint of what the catalog was made from
+     * @param catalog       The catalog
+     * @throws IOException
+     */
+    private static void write(Path file, long fingerprint, PieceCatalog catalog) throws IOException {
+        assert catalog.getWidth() * catalog.getHeight() <= 0x100 : "A cell number doesn't fit in a byte.";
+        Path tmp = file.resolveSibling(file.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(fingerprint);
+                out.writeShort(catalog.getWidth());
+                out.writeShort(catalog.getHeight());
+                out.writeShort(catalog.getPieceCount());
+                for (int pNo = 0; pNo < catalog.getPieceCount(); pNo++) {
+                    out.writeShort(catalog.positionsFor(pNo));
+                    for (int pos = 0; pos < catalog.positionsFor(pNo); pos++) {
+                        for (int i = 0; i < 3; i++) {
+                            out.writeByte(catalog.cellFor(pNo, pos, i));
+                        }
+                    }
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);          // Don't leave it lying around
+            throw e;
+        }
+    }
+
+    /****
+     * Read a catalog file
+     * 
+     * @param file          The file
+     * @param fingerprint   The fingerprint it should have
+     * @return              The catalog, or null if the file isn't a catalog file for that 
+     *                      fingerprint
+     * @throws IOException if it can't be read
+     */
+    private static PieceCatalog read(Path file, long fingerprint) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        try {
+            if (in.getInt() != MAGIC || in.getInt() != VERSION || in.getLong() != fingerprint) {
+                return null;
+            }
+            int width = in.getShort();
+            int height = in.getShort();
+            int[][] cells = new int[in.getShort()][];
+            for (int pNo = 0; pNo < cells.length; pNo++) {
+                cells[pNo] = new int[3 * in.getShort()];
+                for (int i = 0; i < cells[pNo].length; i++) {
+                    cells[pNo][i] = in.get() & 0xFF;
+                }
+            }
+            return in.hasRemaining() ? null : new PieceCatalog(width, height, cells);
+        } catch (RuntimeException e) {      // (Truncated, or not a catalog file after all)
+            return null;
+        }
+    }
+}
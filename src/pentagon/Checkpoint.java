@@ -0,0 +1,199 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the Checkpoint class: how far a sweep through a list of searches has
+ * got, and how many solutions each search had found, kept in a small file so an interrupted
+ * sweep can be picked up where it left off. The solutions themselves are appended to a solution
+ * file next to it as they're found (see SolutionStoreWriter).
+ * 
+ * =====
+ *
+ *  @file     Checkpoint.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.*;
+import java.nio.file.*;
+
+public final class Checkpoint {
+    private static final int MAGIC = 0x50544350;    // "PTCP"
+    private static final int VERSION = 2;
+
+    private final int item;                         // The search in the sweep being worked on
+    private final SearchFrontier frontier;          //   and how far it had got
+    private final int[] found;                      // The number of solutions each search had found
+
+    /****
+     * Constructor
+     * 
+     * @param item          The index of the search in the sweep being worked on. If it's past 
+     *                      the end, the sweep is finished.
+     * @param frontier      Where that search had got to
+     * @param found         The number of solutions each search in the sweep had found, by index. 
+     *                      They're the first that many in the solution file, in sweep order.
+     */
+    public Checkpoint(int item, SearchFrontier frontier, int[] found) {
+        this.item = item;
+        this.frontier = frontier;
+        this.found = found.clone();
+    }
+
+    /****
+     * Return the solution file the solutions of a sweep checkpointed in a given file are 
+     * appended to: the same name with ".solutions" added.
+     * 
+     * @param path  The checkpoint file
+     * @return      The solution file
+     */
+    public static Path solutionsPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".solutions");
+    }
+
+    /****
+     * Return the index of the search in the sweep that was being worked on
+     * 
+     * @return      The index; past the end of the sweep ==> it's finished
+     */
+    public int getItem() {
+        return item;
+    }
+
+    /****
+     * Return where the search that was being worked on had got to
+     * 
+     * @return      The SearchFrontier
+     */
+    public SearchFrontier getFrontier() {
+        return frontier;
+    }
+
+    /****
+     * Return the number of solutions one of the searches in the sweep had found
+     * 
+     * @param i     The index of the search
+     * @return      The number of solutions
+     */
+    public int getFoundCount(int i) {
+        return i < found.length ? found[i] : 0;
+    }
+
+    /****
+     * Return the number of solutions the sweep had found: how many of the records in the 
+     * solution file the Checkpoint accounts for. Any after those were found after it was 
+     * written and will be found again.
+     * 
+     * @return      The number of solutions
+     */
+    public long getSolutionCount() {
+        long answer = 0;
+        for (int n : found) {
+            answer += n;
+        }
+        return answer;
+    }
+
+    /****
+     * Write the Checkpoint to a file. It's written to a temporary file first and then moved 
+     * into place, so if the process dies partway through, the previous Checkpoint is still 
+     * there. It's the same few dozen bytes however many solutions have been found.
+     * 
+     * @param path  The file
+     * @throws IOException
+     */
+    public void write(Path path) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(item);
+            int[] extras = frontier.getExtras();
+            out.writeByte(extras == null ? -1 : extras.length);
+            for (int e : extras == null ? new int[0] : extras) {
+                out.writeByte(e);
+            }
+            out.writeInt(frontier.getCombination());
+            out.writeBoolean(frontier.isSolved());
+            int[] positions = frontier.getPositions();
+            out.writeByte(positions.length);
+            for (int pos : positions) {
+                out.writeShort(pos);
+            }
+            out.writeShort(found.length);
+            for (int n : found) {
+                out.writeInt(n);
+            }
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /****
+     * Read a Checkpoint written by write()
+     * 
+     * @param path  The file
+     * @return      The Checkpoint
+     * @throws IOException If it can't be read or isn't a Checkpoint
+     */
+    public static Checkpoint read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException(path + " isn't a checkpoint file.");
+            }
+            int item = in.readInt();
+            int nExtras = in.readByte();
+            int[] extras = nExtras < 0 ? null : new int[nExtras];
+            for (int i = 0; i < nExtras; i++) {
+                extras[i] = in.readByte();
+            }
+            int combination = in.readInt();
+            boolean solved = in.readBoolean();
+            int[] positions = new int[in.readByte()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = in.readShort();
+            }
+            int[] found = new int[in.readShort()];
+            for (int i = 0; i < found.length; i++) {
+                found[i] = in.readInt();
+            }
+            return new Checkpoint(item, new SearchFrontier(extras, combination, solved, positions), found);
+        } catch (EOFException e) {
+            throw new IOException(path + " is incomplete.", e);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the Coordinator class, which splits searches into WorkUnits, puts them
+ * in a Spool for Worker processes to solve, and puts the results back together in the order
+ * Board.solve() would have found them.
+ * 
+ * =====
+ *
+ *  @file     Coordinator.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.*;
+
+public class Coordinator implements AutoCloseable {
+    private static final long POLL_MS = 10;     // How often to look for a result that's not there yet
+
+    private final Spool spool;                  // Where the work goes
+    private final SearchStats stats;            // What the Workers' searches counted
+    private final List<Process> workers;        // The Worker processes we started
+    private long workerTimeoutMs;               // How long a Worker can be silent before it's taken to be dead
+    private int nextSeq;                        // The number of the next WorkUnit
+    private int nRequeued;                      // The number of WorkUnits put back after a Worker died
+
+    /****
+     * A search that has been put in the Spool: its WorkUnits, combination by combination.
+     */
+    public static final class Job {
+        private final List<Piece[]> sets = new ArrayList<>();   // The combinations of Pieces
+        private final List<int[]> seqs = new ArrayList<>();     //   and the numbers of their WorkUnits
+    }
+
+    /****
+     * 
+     * Constructor. Anything left in the Spool from before is thrown away.
+     * 
+     * @param spool     The Spool to hand the work out through
+     * @throws IOException
+     * 
+     ****/
+    public Coordinator(Spool spool) throws IOException {
+        this.spool = spool;
+        stats = new SearchStats();
+        workers = new ArrayList<>();
+        workerTimeoutMs = 10 * Worker.HEARTBEAT_MS;
+        spool.clear();
+    }
+
+    /****
+     * Set how long a Worker can go without saying it's alive before its WorkUnits are given 
+     * to someone else.
+     * 
+     * @param ms    The time in milliseconds
+     */
+    public void setWorkerTimeout(long ms) {
+        workerTimeoutMs = ms;
+    }
+
+    /****
+     * Start Worker processes on this machine. Workers started any other way (e.g., with 
+     * "App --worker --spool=dir" on another machine that shares the Spool's directory) 
+     * join in just the same.
+     * 
+     * @param n     The number of Workers to start
+     * @throws IOException
+     */
+    public void startWorkers(int n) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        for (int i = 0; i < n; i++) {
+            workers.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), 
+                App.class.getName(), "--worker", "--spool=" + spool.getDir())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start());
+        }
+    }
+
+    /****
+     * Put all the WorkUnits of Board.solve(extras, ...) in the Spool. Any number of Jobs can 
+     * be in the Spool at once; the Workers do their WorkUnits in the order they were submitted.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @return          The Job, to hand to deliver()
+     * @throws IOException
+     */
+    public Job submit(int[] extras) throws IOException {
+        Job job = new Job();
+        int lastComb = -1;
+        List<Integer> combSeqs = new ArrayList<>();
+        for (WorkUnit unit : WorkUnit.split(extras)) {
+            if (unit.getCombination() != lastComb) {
+                if (lastComb >= 0) {
+                    job.seqs.add(combSeqs.stream().mapToInt(i -> i).toArray());
+                }
+                job.sets.add(unit.getPieces());
+                combSeqs.clear();
+                lastComb = unit.getCombination();
+            }
+            spool.submit(nextSeq, unit);
+            combSeqs.add(nextSeq++);
+        }
+        if (lastComb >= 0) {
+            job.seqs.add(combSeqs.stream().mapToInt(i -> i).toArray());
+        }
+        SearchStats.Batch counts = new SearchStats.Batch();
+        counts.skipped = Board.combinations(Piece.makePieces(extras).length).size() - job.sets.size();
+        stats.add(counts);
+        return job;
+    }
+
+    /****
+     * Wait for the results of a Job and hand them to a listener in the order Board.solve() 
+     * would have, each as soon as everything before it is in. Meanwhile, put back the 
+     * WorkUnits of any Workers that seem to have died.
+     * 
+     * @param job       The Job
+     * @param listener  Who to tell about each solution and each finished combination. If it 
+     *                  asks to stop, the Job's WorkUnits that haven't been claimed are taken 
+     *                  back out of the Spool.
+     * @return          true if the search ran to the end, false if listener stopped it
+     * @throws IOException If the Spool can't be used or all the Workers we started have died
+     * @throws InterruptedException
+     */
+    public boolean deliver(Job job, SolutionListener listener) throws IOException, InterruptedException {
+        SearchStats.Batch counts = new SearchStats.Batch();
+        boolean stopped = false;
+        for (int c = 0; c < job.sets.size(); c++) {
+            boolean solved = false;
+            for (int seq : job.seqs.get(c)) {
+                if (stopped) {
+                    spool.cancel(seq);
+                    continue;
+                }
+                String[] lines = await(seq).split("\n");
+                String[] numbers = lines[0].split(" ");
+                counts.nodes += Long.parseLong(numbers[0]);
+                counts.deadEnds += Long.parseLong(numbers[1]);
+                counts.pruned += Long.parseLong(numbers[2]);
+                for (int k = 1; k < lines.length && !stopped; k++) {
+                    String[] words = lines[k].split(" ");
+                    int[] pNos = new int[words.length / 2];
+                    int[] pos = new int[words.length / 2];
+                    for (int i = 0; i < pNos.length; i++) {
+                        pNos[i] = Integer.parseInt(words[2 * i]);
+                        pos[i] = Integer.parseInt(words[2 * i + 1]);
+                    }
+                    solved = true;
+                    counts.solutions++;
+                    stopped = !listener.solutionFound(new Solution(pNos, pos, pNos.length));
+                }
+            }
+            counts.combinations++;
+            stats.add(counts);
+            if (!stopped) {
+                listener.combinationDone(job.sets.get(c), solved);
+            }
+        }
+        return !stopped;
+    }
+
+    /****
+     * Wait for the result of a WorkUnit.
+     * 
+     * @param seq   The WorkUnit's number
+     * @return      Its result
+     */
+    private String await(int seq) throws IOException, InterruptedException {
+        long nextCheck = System.currentTimeMillis() + Worker.HEARTBEAT_MS;
+        while (true) {
+            String answer = spool.result(seq);
+            if (answer != null) {
+                return answer;
+            }
+            if (System.currentTimeMillis() >= nextCheck) {
+                nRequeued += spool.requeueDead(workerTimeoutMs);
+                if (!workers.isEmpty() && workers.stream().noneMatch(Process::isAlive)) {
+                    throw new IOException("All the workers have died.");
+                }
+                nextCheck = System.currentTimeMillis() + Worker.HEARTBEAT_MS;
+            }
+            Thread.sleep(POLL_MS);
+        }
+    }
+
+    /****
+     * Return the number of WorkUnits put back in the Spool so far because the Worker that 
+     * had claimed them seemed to have died.
+     * 
+     * @return      The number of WorkUnits
+     */
+    public int getRequeuedCount() {
+        return nRequeued;
+    }
+
+    /****
+     * Return what the Workers' searches counted, as their results came in.
+     * 
+     * @return      The SearchStats
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /****
+     * Tell the Workers there's no more work coming and wait for the ones we started to stop. 
+     * If the waiting is interrupted, stop waiting and leave the thread interrupted.
+     */
+    @Override
+    public void close() throws IOException {
+        spool.setFinished(true);
+        try {
+            for (Process p : workers) {
+                p.waitFor();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the DlxSolver class, which finds solutions to the puzzle by treating
+ * it as an exact cover problem and using Knuth's Dancing Links (DLX) algorithm.
+ * 
+ * =====
+ *
+ *  @file     DlxSolver.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+
+public class DlxSolver {
+    /****
+     * The puzzle as an exact cover problem: There's a primary column for each of the cells on 
+     * the Board, each of which must be covered exactly once, and a secondary column for each 
+     * of the Pieces, each of which may be covered at most once (that's what takes care of 
+     * choosing Board.CAPACITY of the Pieces when there are extras). There's a row for each 
+     * position of each Piece. It covers the three cells the Piece occupies at that position 
+     * plus the Piece's own column.
+     * 
+     * The matrix is kept as Knuth's toroidal doubly linked lists, with the links held in 
+     * parallel int arrays. Node 0 is the root; nodes 1..nCols are the column headers.
+     ****/
+    private static final int N_CELLS = Board.WIDTH * Board.HEIGHT;     // Number of primary columns
+    private static final int ROOT = 0;                                  // The root node
+
+    private Piece[] pieces;     // The Pieces being used, one secondary column for each
+    private int nCols;          // Number of columns (primary and secondary)
+    private int[] left;         // The links: left, right, up and down
+    private int[] right;
+    private int[] up;
+    private int[] down;
+    private int[] col;          // The column header of each node
+    private int[] size;         // The number of rows in each column (headers only)
+    private int[] rowPiece;     // The index in pieces[] of the row each node is in
+    private int[] rowPos;       // The position of that Piece for the row each node is in
+    private int[] chosen;       // The rows (well, a node in each) in the partial solution, by depth
+    private int[] piecePos;     // The position of each Piece in the partial solution; -1 => not used
+    private int nSolutions;     // The number of solutions found so far
+    private SolutionListener listener;  // Who to tell about them
+    private boolean stopped;    // The listener asked to stop
+    private SearchStats stats = new SearchStats();                      // Where the searches' counts add up
+    private final SearchStats.Batch counts = new SearchStats.Batch();   // The counts not yet added to stats
+
+    /****
+     * 
+     * Constructor
+     * 
+     ****/
+    public DlxSolver() {
+    }
+
+    /****
+     * Find all the solutions to the puzzle using any combination of Board.CAPACITY Pieces 
+     * from the full set of Pieces plus extras (which will be repeats, of course) as requested.
+     * Unlike Board.solve(), each solution is found just once: when a Piece is repeated, the 
+     * copies are only ever used in order of increasing position.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution
+     * @return          The number of solutions found
+     */
+    public int solve(int[] extras, SolutionListener listener) {
+        pieces = Piece.makePieces(extras);
+        buildMatrix();
+        chosen = new int[Board.CAPACITY];
+        piecePos = new int[pieces.length];
+        Arrays.fill(piecePos, Piece.NOT_POSITIONED);
+        nSolutions = 0;
+        this.listener = listener;
+        stopped = false;
+        search(0);
+        stats.add(counts);
+        return nSolutions;
+    }
+
+    /****
+     * A slightly nicer single extra Piece version of solve(int[] extras, listener).
+     * 
+     * @param extra     The number of the Piece to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. -1 ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution
+     * @return          The number of solutions found
+     */
+    public int solve(int extra, SolutionListener listener) {
+        int[] extras = {extra};
+        return solve(extra == -1 ? null : extras, listener);
+    }
+
+    /****
+     * Have the searches add what they count to a given SearchStats rather than to the one 
+     * of its own the DlxSolver starts out with.
+     * 
+     * @param stats     The SearchStats
+     */
+    public void setStats(SearchStats stats) {
+        this.stats = stats;
+    }
+
+    /****
+     * Return the SearchStats the searches add what they count to. A node is a row chosen, 
+     * and a rejected placement is one that would have put copies of a Piece out of order.
+     * 
+     * @return      The SearchStats
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /****
+     * Build the exact cover matrix for pieces[].
+     */
+    private void buildMatrix() {
+        nCols = N_CELLS + pieces.length;
+        int nNodes = 1 + nCols;
+        for (Piece p : pieces) {
+            nNodes += 4 * Piece.positionsFor(p.pNum);
+        }
+        left = new int[nNodes];
+        right = new int[nNodes];
+        up = new int[nNodes];
+        down = new int[nNodes];
+        col = new int[nNodes];
+        size = new int[nNodes];
+        rowPiece = new int[nNodes];
+        rowPos = new int[nNodes];
+
+        // The headers. Only the primary columns go in the root's list; the secondary 
+        // columns just link to themselves so they never get chosen.
+        for (int c = 0; c <= nCols; c++) {
+            up[c] = down[c] = col[c] = c;
+            left[c] = right[c] = c;
+        }
+        for (int c = 0; c <= N_CELLS; c++) {
+            left[c] = c == ROOT ? N_CELLS : c - 1;
+            right[c] = c == N_CELLS ? ROOT : c + 1;
+        }
+
+        // The rows
+        int next = nCols + 1;
+        for (int i = 0; i < pieces.length; i++) {
+            int pNo = pieces[i].pNum;
+            for (int pos = 0; pos < Piece.positionsFor(pNo); pos++) {
+                int first = next;
+                for (int k = 0; k < 4; k++) {
+                    int c = k < 3 ? 1 + Piece.CATALOG.cellFor(pNo, pos, k) : 1 + N_CELLS + i;
+                    int n = next++;
+                    col[n] = c;
+                    rowPiece[n] = i;
+                    rowPos[n] = pos;
+                    up[n] = up[c];                  // Append to the bottom of column c
+                    down[n] = c;
+                    down[up[c]] = n;
+                    up[c] = n;
+                    size[c]++;
+                    left[n] = k == 0 ? n : n - 1;   // Append to the right end of the row
+                    right[n] = first;
+                    right[left[n]] = n;
+                    left[first] = n;
+                }
+            }
+        }
+    }
+
+    /****
+     * Remove column c from the header list and remove all the rows in c from the other 
+     * columns they're in.
+     * 
+     * @param c     The column to cover
+     */
+    private void cover(int c) {
+        right[left[c]] = right[c];
+        left[right[c]] = left[c];
+        for (int i = down[c]; i != c; i = down[i]) {
+            for (int j = right[i]; j != i; j = right[j]) {
+                down[up[j]] = down[j];
+                up[down[j]] = up[j];
+                size[col[j]]--;
+            }
+        }
+    }
+
+    /****
+     * Undo cover(c). Everything is put back in exactly the reverse order it was taken out.
+     * 
+     * @param c     The column to uncover
+     */
+    private void uncover(int c) {
+        for (int i = up[c]; i != c; i = up[i]) {
+            for (int j = left[i]; j != i; j = left[j]) {
+                size[col[j]]++;
+                down[up[j]] = j;
+                up[down[j]] = j;
+            }
+        }
+        right[left[c]] = c;
+        left[right[c]] = c;
+    }
+
+    /****
+     * Return whether using pieces[i] at position pos keeps repeated Pieces in canonical 
+     * order: among copies of the same Piece, the lower numbered copy is always at the lower 
+     * numbered position.
+     * 
+     * @param i     The index in pieces[] of the Piece
+     * @param pos   The position to check
+     * @return      true if it's okay, false if it would just be a rearrangement of a 
+     *              solution found some other way
+     */
+    private boolean inOrder(int i, int pos) {
+        for (int j = 0; j < pieces.length; j++) {
+            if (j != i && pieces[j].pNum == pieces[i].pNum && piecePos[j] != Piece.NOT_POSITIONED) {
+                if ((j < i) != (piecePos[j] < pos)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /****
+     * Return whether the (complete) solution uses the lowest numbered copies of any repeated 
+     * Piece. If it uses a higher numbered copy in place of a lower numbered one, the same 
+     * solution is also found using the lower numbered one.
+     * 
+     * @return      true if the solution is canonical
+     */
+    private boolean usesLowestCopies() {
+        for (int i = 0; i < pieces.length; i++) {
+            if (piecePos[i] == Piece.NOT_POSITIONED) {
+                for (int j = i + 1; j < pieces.length; j++) {
+                    if (pieces[j].pNum == pieces[i].pNum && piecePos[j] != Piece.NOT_POSITIONED) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /****
+     * Knuth's Algorithm X, choosing the column with the fewest remaining rows (i.e., the cell 
+     * that can be covered in the fewest ways) at each level.
+     * 
+     * @param depth     The number of rows in the partial solution
+     */
+    private void search(int depth) {
+        if (right[ROOT] == ROOT) {
+            if (usesLowestCopies()) {
+                reportSolution(depth);
+            }
+            return;
+        }
+        int c = right[ROOT];
+        for (int j = right[c]; j != ROOT; j = right[j]) {
+            if (size[j] < size[c]) {
+                c = j;
+            }
+        }
+        if (size[c] == 0) {
+            counts.backtracksByDepth[depth]++;
+            return;
+        }
+        cover(c);
+        for (int r = down[c]; r != c && !stopped; r = down[r]) {
+            counts.tried++;
+            if (!inOrder(rowPiece[r], rowPos[r])) {
+                counts.rejected++;
+                continue;
+            }
+            counts.nodes++;
+            counts.nodesByDepth[depth]++;
+            if (counts.nodes >= SearchStats.FLUSH_EVERY) {
+                stats.add(counts);
+            }
+            chosen[depth] = r;
+            piecePos[rowPiece[r]] = rowPos[r];
+            for (int j = right[r]; j != r; j = right[j]) {
+                cover(col[j]);
+            }
+            search(depth + 1);
+            for (int j = left[r]; j != r; j = left[j]) {
+                uncover(col[j]);
+            }
+            piecePos[rowPiece[r]] = Piece.NOT_POSITIONED;
+        }
+        uncover(c);
+        counts.backtracksByDepth[depth]++;
+    }
+
+    /****
+     * Hand the solution to the listener.
+     * 
+     * @param depth     The number of rows in the solution
+     */
+    private void reportSolution(int depth) {
+        nSolutions++;
+        counts.solutions++;
+        int[] pNos = new int[depth];
+        int[] pos = new int[depth];
+        for (int d = 0; d < depth; d++) {
+            pNos[d] = pieces[rowPiece[chosen[d]]].pNum;
+            pos[d] = rowPos[chosen[d]];
+        }
+        Solution s = new Solution(pNos, pos, depth);
+        SolutionEvent.commit(s);
+        stopped = !listener.solutionFound(s);
+    }
+}
@@ -0,0 +1,208 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the ExtrasSweep class, which finds the solutions to the puzzle for every
+ * way of adding a given number of extra Pieces to the full set at once.
+ * 
+ * =====
+ *
+ *  @file     ExtrasSweep.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.PrintStream;
+import java.util.*;
+
+/****
+ * A sweep over every multiset of nExtras extra Pieces (all the pairs, say, or all the 
+ * triples), finding how many solutions the puzzle has with each added to the full set.
+ * 
+ * Rather than searching once for each multiset, the way App does for single extras, 
+ * ExtrasSweep has Board.solveWithSpares() search once for the lot. Each solution that search 
+ * finds uses some number (up to nExtras) of spare copies of Pieces, and it's a solution for 
+ * exactly the multisets of extras that include those spares. So all the work the separate 
+ * searches would have had in common gets done just once, and a multiset of extras that has 
+ * no solutions costs nothing beyond the shared search. ExtrasSweep counts the solutions by 
+ * the spares they use, and works out each multiset's total from those counts.
+ ****/
+public final class ExtrasSweep implements SolutionListener {
+    private final int nExtras;                          // The number of extra Pieces in each multiset
+    private final SolutionListener next;                // Who else to tell about each solution
+    private final Map<Long, Long> bySpares = new HashMap<>();  // The number of solutions using 
+                                                        //   each multiset of spares, keyed by 
+                                                        //   SolutionStore.multisetKey()
+    private final int[] nUsed = new int[Piece.N_PIECES];    // Scratch for solutionFound()
+
+    /****
+     * Constructor
+     * 
+     * @param nExtras   The number of extra Pieces in each multiset
+     * @param next      Who else to tell about each solution. null ==> nobody.
+     */
+    public ExtrasSweep(int nExtras, SolutionListener next) {
+        this.nExtras = nExtras;
+        this.next = next;
+    }
+
+    /****
+     * Run the sweep on a Board.
+     * 
+     * @param board     The Board to do the search on. Its TranspositionTable, if it has one, 
+     *                  lets the search skip states it has already found can't be finished.
+     * @return          The number of different solutions found
+     */
+    public long run(Board board) {
+        bySpares.clear();
+        return board.solveWithSpares(nExtras, this);
+    }
+
+    @Override
+    public boolean solutionFound(Solution s) {
+        Arrays.fill(nUsed, 0);
+        for (int i = 0; i < s.getPieceCount(); i++) {
+            nUsed[s.getPiece(i)]++;
+        }
+        for (int pNo = 0; pNo < nUsed.length; pNo++) {  // Spares are the copies after the first
+            nUsed[pNo] = Math.max(0, nUsed[pNo] - 1);
+        }
+        bySpares.merge(SolutionStore.multisetKey(nUsed), 1L, Long::sum);
+        return next == null || next.solutionFound(s);
+    }
+
+    /****
+     * Return every multiset of n Piece numbers, each in increasing order, the multisets in 
+     * lexicographic order.
+     * 
+     * @param n     The size of the multisets
+     * @return      The multisets
+     */
+    public static List<int[]> multisets(int n) {
+        List<int[]> answer = new ArrayList<>();
+        addMultisets(new int[n], 0, 0, answer);
+        return answer;
+    }
+
+    /****
+     * The recursive part of multisets(): fill in extras[at..] with Piece numbers from lowest 
+     * on.
+     */
+    private static void addMultisets(int[] extras, int at, int lowest, List<int[]> answer) {
+        if (at == extras.length) {
+            answer.add(extras.clone());
+            return;
+        }
+        for (int pNo = lowest; pNo < Piece.N_PIECES; pNo++) {
+            extras[at] = pNo;
+            addMultisets(extras, at + 1, pNo, answer);
+        }
+    }
+
+    /****
+     * Return the number of solutions with extras added to the full set of Pieces, i.e., the 
+     * number Board.count(extras) would come up with: those using any part of extras as 
+     * spares.
+     * 
+     * @param extras    The extra Piece numbers, at most the sweep's nExtras of them
+     * @return          The number of solutions
+     */
+    public long getCount(int[] extras) {
+        int[] copies = new int[Piece.N_PIECES];
+        for (int e : extras) {
+            copies[e]++;
+        }
+        return countWithin(copies, 0, 0L);
+    }
+
+    /****
+     * The recursive part of getCount(): add up the solutions whose spares are within copies, 
+     * having settled how many of each Piece before pNo are spares (as key).
+     */
+    private long countWithin(int[] copies, int pNo, long key) {
+        if (pNo == copies.length) {
+            return bySpares.getOrDefault(key, 0L);
+        }
+        long answer = 0;
+        for (int n = 0; n <= copies[pNo]; n++) {
+            answer += countWithin(copies, pNo + 1, key | (long)n << (4 * pNo));
+        }
+        return answer;
+    }
+
+    /****
+     * Return the number of solutions that use all of extras as spares, i.e., the ones that 
+     * are new with extras rather than solutions for some smaller multiset of extra Pieces.
+     * 
+     * @param extras    The extra Piece numbers
+     * @return          The number of solutions
+     */
+    public long getNewCount(int[] extras) {
+        int[] copies = new int[Piece.N_PIECES];
+        for (int e : extras) {
+            copies[e]++;
+        }
+        return bySpares.getOrDefault(SolutionStore.multisetKey(copies), 0L);
+    }
+
+    /****
+     * Print a table of the number of solutions for each multiset of extras, and how many of 
+     * those use all of them, followed by the totals.
+     * 
+     * @param out   Where to print it
+     */
+    public void printTable(PrintStream out) {
+        out.printf("%-8s %10s %10s\n", "Extras", "Solutions", "New");
+        long nSolvable = 0;
+        long nNew = 0;
+        List<int[]> all = multisets(nExtras);
+        for (int[] extras : all) {
+            long n = getCount(extras);
+            long nAll = getNewCount(extras);
+            StringBuilder names = new StringBuilder();
+            for (int e : extras) {
+                names.append((char)(e + 'A'));
+            }
+            out.printf("%-8s %10d %10d\n", names, n, nAll);
+            nSolvable += n > 0 ? 1 : 0;
+            nNew += nAll;
+        }
+        out.printf("%d of the %d ways to add %d extra pieces have solutions; %d solutions use all %d.\n", 
+            nSolvable, all.size(), nExtras, nNew, nExtras);
+    }
+}
@@ -0,0 +1,416 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the HalfBoardSolver class, which finds solutions to the puzzle by tiling
+ * the top and bottom halves of the Board separately and joining the halves that fit together.
+ * 
+ * =====
+ *
+ *  @file     HalfBoardSolver.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+
+public class HalfBoardSolver {
+    /****
+     * A meet-in-the-middle search. The Board is split between rows HEIGHT / 2 - 1 and 
+     * HEIGHT / 2. The top half is filled the way Board.solveByCell() fills the Board, first 
+     * empty cell first, until every cell above the boundary is covered. Some of the Pieces 
+     * placed along the way stick out below the boundary, and the cells they cover there are 
+     * the half tiling's profile. Each of those top half tilings goes into a bucket by its 
+     * profile and then by the multiset of Pieces it uses.
+     * 
+     * For each profile, the bottom half is then filled in every way it can be, starting with 
+     * the profile's cells already covered, and those bottom half tilings are bucketed by the 
+     * Pieces they use. A top and a bottom half tiling with the same profile make a solution 
+     * when, between them, they use no more copies of any Piece than there are. So each bucket 
+     * of top halves is joined with each bucket of bottom halves just once, however many half 
+     * tilings are in them, and the bottom halves are found once per profile rather than once 
+     * per top half.
+     * 
+     * The buckets hold all the half tilings at once. That's the memory the search trades for 
+     * time: neither half is more than a few thousand tilings on the 8 x 6 Board. Since the 
+     * half tilings don't depend on which Pieces are extras, only on how many copies of each 
+     * there can be, they're kept from one search to the next. With setCopyLimit(), the 
+     * searches for any extras within the limit (e.g., each single extra in turn) share one 
+     * set of half tilings and only have to join them.
+     ****/
+    private static final int SPLIT = (Board.HEIGHT / 2) * Board.WIDTH;    // The cells above the boundary
+    private static final long TOP = (1L << SPLIT) - 1;                     //   and their occupancy
+    private static final long FOUR_BITS_HIGH = 0x8888888888888888L;        // The high bit of each Piece's count
+
+    private final int[] available = new int[Piece.N_PIECES];   // The copies of each Piece left
+    private long targetKey;             // The copies of each Piece there are, 4 bits per Piece 
+                                        //   (see SolutionStore.multisetKey())
+    private int copyLimit;              // The fewest copies of each Piece the halves allow for
+    private long halvesKey = -1L;       // The copies of each Piece the half tilings were found 
+                                        //   with, 4 bits per Piece (-1 ==> there aren't any)
+    private final int[] placed = new int[Board.CAPACITY];      // The partial half tiling: Piece 
+                                        //   number << 8 | position, by depth
+    private Map<Long, Map<Long, List<int[]>>> tops;    // The top half tilings by profile, then 
+                                        //   by the Pieces used
+    private Map<Long, Map<Long, List<int[]>>> bottoms; // The bottom half tilings by profile, 
+                                        //   then by the Pieces used
+    private long nTops;                 // The number of top half tilings found
+    private long nBottoms;              //   and of bottom half tilings
+    private long nFound;                // The number of solutions found
+    private SolutionListener listener;  // Who to tell about them. null ==> just count them.
+    private boolean stopped;            // The listener asked to stop
+    private SearchStats stats = new SearchStats();                      // Where the searches' counts add up
+    private final SearchStats.Batch counts = new SearchStats.Batch();   // The counts not yet added to stats
+
+    /****
+     * 
+     * Constructor
+     * 
+     ****/
+    public HalfBoardSolver() {
+    }
+
+    /****
+     * Find all the solutions to the puzzle using any combination of Board.CAPACITY Pieces 
+     * from the full set of Pieces plus extras (which will be repeats, of course) as requested. 
+     * Each solution is found just once.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution. null ==> just count them.
+     * @return          The number of solutions found
+     * @throws IllegalArgumentException if there'd be more than 7 copies of a Piece
+     */
+    public long solve(int[] extras, SolutionListener listener) {
+        Arrays.fill(available, 1);
+        if (extras != null) {
+            for (int e : extras) {
+                available[e]++;
+            }
+        }
+        for (int n : available) {
+            if (n > 7) {                            // (So two halves' counts can't overflow)
+                throw new IllegalArgumentException("Can't search with " + n + " copies of a piece.");
+            }
+        }
+        targetKey = SolutionStore.multisetKey(available);
+        if (halvesKey == -1L || !fits(targetKey, halvesKey)) {
+            for (int pNo = 0; pNo < available.length; pNo++) {
+                available[pNo] = Math.max(available[pNo], Math.min(copyLimit, 7));
+            }
+            findHalves();
+        }
+        this.listener = listener;
+        stopped = false;
+        nFound = 0;
+        for (Map.Entry<Long, Map<Long, List<int[]>>> bucket : tops.entrySet()) {
+            if (stopped) {
+                break;
+            }
+            join(bucket.getValue(), bottoms.get(bucket.getKey()));
+        }
+        stats.add(counts);
+        return nFound;
+    }
+
+    /****
+     * Find all the top half tilings, and all the bottom half tilings for each of their 
+     * profiles, using as many copies of each Piece as available[] says.
+     */
+    private void findHalves() {
+        halvesKey = SolutionStore.multisetKey(available);
+        nTops = nBottoms = 0;
+        tops = new HashMap<>();
+        bottoms = new HashMap<>();
+        fillTop(0L, 0, 0L);
+        for (long profile : tops.keySet()) {
+            bottoms.put(profile, new HashMap<>());
+            fillBottom(TOP | profile, (SPLIT + Long.bitCount(profile)) / 3, 0, 0L, bottoms.get(profile));
+        }
+    }
+
+    /****
+     * A slightly nicer single extra Piece version of solve(int[] extras, listener).
+     * 
+     * @param extra     The number of the Piece to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. -1 ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution. null ==> just count them.
+     * @return          The number of solutions found
+     */
+    public long solve(int extra, SolutionListener listener) {
+        int[] extras = {extra};
+        return solve(extra == -1 ? null : extras, listener);
+    }
+
+    /****
+     * Count the solutions to the puzzle using any Board.CAPACITY of the full set of Pieces 
+     * plus extras. Only the buckets' sizes get multiplied, so no solution is built.
+     * 
+     * @param extras    The numbers of the Pieces to repeat. null ==> none.
+     * @return          The number of solutions
+     */
+    public long count(int[] extras) {
+        return solve(extras, null);
+    }
+
+    /****
+     * Have the half tilings found allow for at least n copies of each Piece, so that they 
+     * can be used again by later searches with up to n copies of any Piece, rather than just 
+     * the copies the next search needs.
+     * 
+     * @param n     The number of copies. 0 ==> just what the next search needs (the default).
+     */
+    public void setCopyLimit(int n) {
+        copyLimit = n;
+        halvesKey = -1L;
+        tops = null;
+        bottoms = null;
+    }
+
+    /****
+     * Have the searches add what they count to a given SearchStats rather than to the one 
+     * of its own the HalfBoardSolver starts out with.
+     * 
+     * @param stats     The SearchStats
+     */
+    public void setStats(SearchStats stats) {
+        this.stats = stats;
+    }
+
+    /****
+     * Return the SearchStats the searches add what they count to. A node is a Piece placed in 
+     * either half; a combination is a pair of buckets joined.
+     * 
+     * @return      The SearchStats
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /****
+     * Return the number of top half tilings the last search used.
+     * 
+     * @return      The number of top half tilings
+     */
+    public long getTopCount() {
+        return nTops;
+    }
+
+    /****
+     * Return the number of bottom half tilings the last search used, over all the profiles.
+     * 
+     * @return      The number of bottom half tilings
+     */
+    public long getBottomCount() {
+        return nBottoms;
+    }
+
+    /****
+     * Fill the top half, cover the first empty cell in every way possible and, for each, go 
+     * on to fill the rest of the top half. Once it's full, put the half tiling in its bucket.
+     * 
+     * @param filled    The cells that are already covered
+     * @param depth     The number of Pieces already placed
+     * @param used      The Pieces they are, 4 bits per Piece
+     */
+    private void fillTop(long filled, int depth, long used) {
+        int cell = Long.numberOfTrailingZeros(~filled);
+        if (cell >= SPLIT) {
+            nTops++;
+            tops.computeIfAbsent(filled & ~TOP, p -> new HashMap<>())
+                .computeIfAbsent(used, u -> new ArrayList<>()).add(Arrays.copyOf(placed, depth));
+            return;
+        }
+        for (int pNo = 0; pNo < Piece.N_PIECES; pNo++) {
+            if (available[pNo] > 0) {
+                for (int pos : Piece.CATALOG.positionsStartingAt(pNo, cell)) {
+                    long mask = place(filled, depth, depth, pNo, pos);
+                    if (mask != 0L) {
+                        fillTop(filled | mask, depth + 1, used + (1L << (4 * pNo)));
+                        available[pNo]++;
+                    }
+                }
+            }
+        }
+        counts.backtracksByDepth[depth]++;
+    }
+
+    /****
+     * Fill the bottom half in every way possible, each time putting the half tiling in its 
+     * bucket. The bottom half doesn't know which Pieces the top half used, so it can use any 
+     * of them.
+     * 
+     * @param filled    The cells that are already covered
+     * @param depth     The number of Pieces on the Board, in both halves
+     * @param n         The number of those in the bottom half
+     * @param used      The Pieces they are, 4 bits per Piece
+     * @param bucket    Where to put the bottom half tilings, by the Pieces they use
+     */
+    private void fillBottom(long filled, int depth, int n, long used, Map<Long, List<int[]>> bucket) {
+        if (filled == Board.FULL) {
+            nBottoms++;
+            bucket.computeIfAbsent(used, u -> new ArrayList<>()).add(Arrays.copyOf(placed, n));
+            return;
+        }
+        int cell = Long.numberOfTrailingZeros(~filled);
+        for (int pNo = 0; pNo < Piece.N_PIECES; pNo++) {
+            if (available[pNo] > 0) {
+                for (int pos : Piece.CATALOG.positionsStartingAt(pNo, cell)) {
+                    long mask = place(filled, depth, n, pNo, pos);
+                    if (mask != 0L) {
+                        fillBottom(filled | mask, depth + 1, n + 1, used + (1L << (4 * pNo)), bucket);
+                        available[pNo]++;
+                    }
+                }
+            }
+        }
+        counts.backtracksByDepth[depth]++;
+    }
+
+    /****
+     * Try to place a Piece, counting the attempt. If it fits, take one of its copies and 
+     * record it in placed[at]; the caller gives the copy back.
+     * 
+     * @param filled    The cells that are already covered
+     * @param depth     The number of Pieces on the Board, in both halves
+     * @param at        Where in placed[] to record it
+     * @param pNo       The Piece
+     * @param pos       The position to put it in
+     * @return          The cells it covers, or 0 if it doesn't fit
+     */
+    private long place(long filled, int depth, int at, int pNo, int pos) {
+        long mask = Piece.CATALOG.maskFor(pNo, pos);
+        counts.tried++;
+        if ((filled & mask) != 0L) {
+            counts.rejected++;
+            return 0L;
+        }
+        counts.nodes++;
+        counts.nodesByDepth[depth]++;
+        if (counts.nodes >= SearchStats.FLUSH_EVERY) {
+            stats.add(counts);
+        }
+        available[pNo]--;
+        placed[at] = pNo << 8 | pos;
+        return mask;
+    }
+
+    /****
+     * Join the top half tilings for a profile with the bottom half tilings for it: every pair 
+     * of buckets whose Pieces add up to no more than there are makes a solution of each top 
+     * and bottom half tiling in them.
+     * 
+     * @param topHalves     The top half tilings, by the Pieces used
+     * @param bottomHalves  The bottom half tilings, by the Pieces used
+     */
+    private void join(Map<Long, List<int[]>> topHalves, Map<Long, List<int[]>> bottomHalves) {
+        List<Map.Entry<Long, List<int[]>>> fitting = new ArrayList<>();
+        for (Map.Entry<Long, List<int[]>> bottom : bottomHalves.entrySet()) {
+            if (fits(bottom.getKey(), targetKey)) {
+                fitting.add(bottom);
+            }
+        }
+        long spare = targetKey | FOUR_BITS_HIGH;
+        for (Map.Entry<Long, List<int[]>> top : topHalves.entrySet()) {
+            if (!fits(top.getKey(), targetKey)) {
+                continue;
+            }
+            for (Map.Entry<Long, List<int[]>> bottom : fitting) {
+                // With each half within the target, no count is more than twice the target's 
+                // so taking away the sum from target + 8 can't borrow from the next Piece's 
+                // 4 bits, and the 8 bit survives just where the sum is within the target.
+                if (((spare - (top.getKey() + bottom.getKey())) & FOUR_BITS_HIGH) != FOUR_BITS_HIGH) {
+                    continue;
+                }
+                counts.combinations++;
+                if (listener == null) {
+                    long n = (long)top.getValue().size() * bottom.getValue().size();
+                    nFound += n;
+                    counts.solutions += n;
+                    continue;
+                }
+                for (int[] t : top.getValue()) {
+                    for (int[] b : bottom.getValue()) {
+                        report(t, b);
+                        if (stopped) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /****
+     * Return whether a multiset of Pieces uses no more copies of any Piece than there are.
+     * 
+     * @param used      The multiset, 4 bits per Piece
+     * @param there     The copies there are, 4 bits per Piece
+     * @return          true if it does
+     */
+    private static boolean fits(long used, long there) {
+        for (; used != 0L; used >>>= 4, there >>>= 4) {
+            if ((used & 0xF) > (there & 0xF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /****
+     * Hand the solution made of a top and a bottom half tiling to the listener.
+     * 
+     * @param top       The top half tiling
+     * @param bottom    The bottom half tiling
+     */
+    private void report(int[] top, int[] bottom) {
+        nFound++;
+        counts.solutions++;
+        int n = top.length + bottom.length;
+        int[] pNos = new int[n];
+        int[] pos = new int[n];
+        for (int i = 0; i < n; i++) {
+            int p = i < top.length ? top[i] : bottom[i - top.length];
+            pNos[i] = p >>> 8;
+            pos[i] = p & 0xFF;
+        }
+        Solution s = new Solution(pNos, pos, n);
+        SolutionEvent.commit(s);
+        stopped = !listener.solutionFound(s);
+    }
+}
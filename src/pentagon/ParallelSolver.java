@@ -0,0 +1,344 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the ParallelSolver class, which does the same search as Board.solve() 
+ * but splits it into independent tasks run on a ForkJoinPool.
+ * 
+ * =====
+ *
+ *  @file     ParallelSolver.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ParallelSolver {
+    private final ForkJoinPool pool;            // Where the work gets done
+    private final SearchStats stats;            // Where all the Boards' counts add up
+    private volatile boolean pruneDeadRegions;  // Whether the Boards check for dead regions
+    private volatile boolean donateWork;        //   and give work to idle threads
+    private final AtomicLong nDonated = new AtomicLong();   // The SearchRanges given away so far
+
+    /****
+     * 
+     * Constructor
+     * 
+     * @param pool  The ForkJoinPool to run the search on
+     * 
+     ****/
+    public ParallelSolver(ForkJoinPool pool) {
+        this.pool = pool;
+        stats = new SearchStats();
+        pruneDeadRegions = true;
+        donateWork = true;
+    }
+
+    /****
+     * Turn the dead region check on or off for the searches started from now on (see 
+     * Board.setDeadRegionPruning()).
+     * 
+     * @param on    true to check, false not to
+     */
+    public void setDeadRegionPruning(boolean on) {
+        pruneDeadRegions = on;
+    }
+
+    /****
+     * Turn work donation on or off for the searches started from now on. When it's on, 
+     * a search that finds the pool has idle threads and nothing queued for them splits off 
+     * part of what it has left to do (see Board.setDonations()) and forks it, so the last, 
+     * biggest searches of a sweep still keep every thread busy. It's on unless turned off.
+     * 
+     * @param on    true to donate, false not to
+     */
+    public void setWorkDonation(boolean on) {
+        donateWork = on;
+    }
+
+    /****
+     * Return the number of parts of searches split off and forked for idle threads so far.
+     * 
+     * @return      The number of donations
+     */
+    public long getDonatedCount() {
+        return nDonated.get();
+    }
+
+    /****
+     * Start finding all the solutions to the puzzle using any combination of Board.CAPACITY 
+     * Pieces from the full set of Pieces plus extras. The work is split into one task for 
+     * each position of the first Piece of each combination, and the tasks split themselves 
+     * further when threads go idle (see setWorkDonation()). Each task has its own Board, 
+     * which holds all the state of its search; the Pieces and the PieceCatalog are 
+     * immutable and shared. Any number of these can be running at once.
+     * 
+     * The listener hears about the solutions and combinations in exactly the order 
+     * Board.solve(extras, listener) would have told it, each as soon as everything before 
+     * it has been found. It's only ever called from one thread at a time. If it asks to 
+     * stop, the tasks that haven't finished are abandoned.
+     * 
+     * @param extras    The numbers of the Pieces to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. null ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution and each finished combination
+     * @return          A task whose result is true if the search ran to the end, false if 
+     *                  listener stopped it
+     */
+    public ForkJoinTask<Boolean> submit(int[] extras, SolutionListener listener) {
+        return pool.submit(new SetTask(extras, listener));
+    }
+
+    /****
+     * A slightly nicer single extra Piece version of submit(int[] extras, listener).
+     * 
+     * @param extra     The number of the Piece to repeat in the set of Pieces to be used in
+     *                  solving the puzzle. -1 ==> Don't include a repeated Piece.
+     * @param listener  Who to tell about each solution and each finished combination
+     * @return          A task whose result is true if the search ran to the end, false if 
+     *                  listener stopped it
+     */
+    public ForkJoinTask<Boolean> submit(int extra, SolutionListener listener) {
+        int[] extras = {extra};
+        return submit(extra == -1 ? null : extras, listener);
+    }
+
+    /****
+     * Return the number of Piece positions skipped so far because they would only have 
+     * swapped copies of a repeated Piece (see Board.getPrunedCount()).
+     * 
+     * @return      The number of pruned positions
+     */
+    public long getPrunedCount() {
+        return stats.getPrunedCount();
+    }
+
+    /****
+     * Return the number of combinations of Pieces skipped so far because they were the same 
+     * as others (see Board.getSkippedCount()).
+     * 
+     * @return      The number of skipped combinations
+     */
+    public long getSkippedCount() {
+        return stats.getSkippedCount();
+    }
+
+    /****
+     * Return the number of nodes in the search trees visited so far (see 
+     * Board.getNodeCount()).
+     * 
+     * @return      The number of nodes
+     */
+    public long getNodeCount() {
+        return stats.getNodeCount();
+    }
+
+    /****
+     * Return the number of placements taken back so far because they left part of the 
+     * Board impossible to fill (see Board.getDeadEndCount()).
+     * 
+     * @return      The number of dead ends
+     */
+    public long getDeadEndCount() {
+        return stats.getDeadEndCount();
+    }
+
+    /****
+     * Return the SearchStats that all the searches add what they count to.
+     * 
+     * @return      The SearchStats
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /****
+     * The task for one set of extras: fork a PositionTask for each position of the first 
+     * Piece of each combination, then put their results together in order.
+     */
+    private class SetTask extends RecursiveTask<Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] extras;
+        private final SolutionListener listener;
+        private volatile boolean stopped;       // The listener asked to stop
+
+        SetTask(int[] extras, SolutionListener listener) {
+            this.extras = extras;
+            this.listener = listener;
+        }
+
+        @Override
+        protected Boolean compute() {
+            Piece[] pieces = Piece.makePieces(extras);
+            SearchStats.Batch counts = new SearchStats.Batch();
+            List<int[]> combs = new ArrayList<>();
+            List<Piece[]> sets = new ArrayList<>();
+            for (int[] comb : Board.combinations(pieces.length)) {
+                Piece[] set = new Piece[comb.length];
+                for (int i = 0; i < comb.length; i++) {
+                    set[i] = pieces[comb[i]];
+                }
+                if (Board.repeatsCombination(pieces, set)) {
+                    counts.skipped++;
+                } else {
+                    combs.add(comb);
+                    sets.add(set);
+                }
+            }
+
+            List<List<RangeTask>> tasks = new ArrayList<>();
+            for (Piece[] set : sets) {
+                List<RangeTask> combTasks = new ArrayList<>();
+                for (int pos = 0; pos < Piece.positionsFor(set[0].pNum); pos++) {
+                    combTasks.add(new RangeTask(this, set, new SearchRange(new int[0], pos, pos + 1)));
+                }
+                tasks.add(combTasks);
+            }
+            for (List<RangeTask> combTasks : tasks) {
+                for (RangeTask t : combTasks) {
+                    t.fork();
+                }
+            }
+
+            stats.add(counts);
+
+            for (int c = 0; c < sets.size(); c++) {
+                CombinationEvent event = new CombinationEvent();    // (Its duration is how long the
+                event.begin();                                      //   results were waited for)
+                boolean solved = false;
+                for (RangeTask t : tasks.get(c)) {
+                    solved |= deliver(t);
+                }
+                counts.combinations++;
+                stats.add(counts);
+                event.commit(sets.get(c), solved);
+                if (!stopped) {
+                    listener.combinationDone(sets.get(c), solved);
+                }
+            }
+            return !stopped;
+        }
+
+        /****
+         * Wait for a RangeTask and tell the listener about its solutions and then, in 
+         * order, those of the tasks it gave work to: the last one first (see 
+         * Board.setDonations()).
+         * 
+         * @param t     The task
+         * @return      Whether any of them found a solution
+         */
+        private boolean deliver(RangeTask t) {
+            if (stopped) {
+                t.cancel(false);
+                return false;
+            }
+            t.join();
+            boolean solved = false;
+            for (Solution s : t.found) {
+                solved = true;
+                if (!stopped && !listener.solutionFound(s)) {
+                    stopped = true;
+                }
+            }
+            for (int i = t.donated.size() - 1; i >= 0; i--) {
+                solved |= deliver(t.donated.get(i));
+            }
+            return solved;
+        }
+    }
+
+    /****
+     * The task for one SearchRange of one combination: at first, one position of its first 
+     * Piece. It runs Board.solveForSet() on a Board of its own and keeps the solutions it 
+     * finds. If threads go idle while it runs, it forks RangeTasks for parts of its range 
+     * for them to steal.
+     */
+    private class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final SetTask parent;
+        private final Piece[] set;
+        private final SearchRange range;
+        final List<Solution> found;             // The solutions found
+        final List<RangeTask> donated;          // The tasks given parts of the range, in order
+
+        RangeTask(SetTask parent, Piece[] set, SearchRange range) {
+            this.parent = parent;
+            this.set = set;
+            this.range = range;
+            found = new ArrayList<>();
+            donated = new ArrayList<>();
+        }
+
+        @Override
+        protected void compute() {
+            if (parent.stopped) {
+                return;
+            }
+            Board board = new Board();
+            board.setDeadRegionPruning(pruneDeadRegions);
+            board.setStats(stats);
+            if (donateWork) {
+                board.setDonations(ParallelSolver.this::workWanted, r -> {
+                    RangeTask t = new RangeTask(parent, set, r);
+                    donated.add(t);
+                    nDonated.incrementAndGet();
+                    t.fork();
+                });
+            }
+            board.solveForSet(set, range, s -> {
+                found.add(s);
+                return !parent.stopped;
+            });
+        }
+    }
+
+    /****
+     * Return whether the pool has threads with nothing to do: none of its threads has a 
+     * task queued, nothing new has been submitted and fewer threads are busy than it has.
+     * 
+     * @return      true if a running task should give some of its work away
+     */
+    private boolean workWanted() {
+        return pool.getQueuedTaskCount() == 0 && !pool.hasQueuedSubmissions() && 
+            pool.getActiveThreadCount() < pool.getParallelism();
+    }
+}
@@ -44,6 +44,10 @@
  *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  * 
 ****/
+package pentagon;
+
+import java.util.*;
+
 public class Piece {
     /****
      * 
@@ -440,6 +444,69 @@ public class Piece {
      ****/
     public final static int NOT_POSITIONED = -1;
 
+    /****
+     * The catalog of where each of the Pieces can go on the Board, worked out once from 
+     * shapes[] and positions[]. It's immutable, so every search can share it.
+     ****/
+    public final static PieceCatalog CATALOG = new PieceCatalog(Board.WIDTH, Board.HEIGHT, makeCells());
+
+    /****
+     * Work out the cells occupied by each Piece at each of its positions from the shapes[] 
+     * and positions[] tables, in the form PieceCatalog wants them.
+     *
+     * @return  The cell numbers (y * Board.WIDTH + x), three for each position of each Piece
+     ****/
+    private static int[][] makeCells() {
+        int[][] answer = new int[positions.length][];
+        for (int pNo = 0; pNo < positions.length; pNo++) {
+            answer[pNo] = new int[3 * positions[pNo].length];
+            int cellCount = 0;
+            for (int pos = 0; pos < positions[pNo].length; pos++) {
+                byte[][] ourShape = shapes[positions[pNo][pos][0]];
+                for (int dy = 0; dy < 3; dy++) {
+                    for (int dx = 0; dx < 3; dx++) {
+                        if (ourShape[dy][dx] == 1) {    // NB: shapes[] is rows and columns, so y then x
+                            int x = positions[pNo][pos][1] + dx;
+                            int y = positions[pNo][pos][2] + dy;
+                            answer[pNo][cellCount++] = y * Board.WIDTH + x;
+                        }
+                    }
+                }
+                assert cellCount == 3 * (pos + 1) : "A shape doesn't have exactly three cells.";
+            }
+        }
+        return answer;
+    }
+
+    /****
+     * Return the number of shapes in shapes[]
+     * 
+     * @return      The number of shapes
+     ****/
+    static int shapeCount() {
+        return shapes.length;
+    }
+
+    /****
+     * Return where the three cells of a shape are relative to the top left corner of its 
+     * 3 x 3 box
+     * 
+     * @param shape The shape: 0..shapeCount() - 1
+     * @return      The x, y offset of each of the three cells, in row order
+     ****/
+    static int[][] shapeCells(int shape) {
+        int[][] answer = new int[3][];
+        int n = 0;
+        for (int dy = 0; dy < 3; dy++) {
+            for (int dx = 0; dx < 3; dx++) {
+                if (shapes[shape][dy][dx] == 1) {   // NB: shapes[] is rows and columns, so y then x
+                    answer[n++] = new int[] {dx, dy};
+                }
+            }
+        }
+        return answer;
+    }
+
     /****
      * Return the number of positions a given Piece has
      * 
@@ -472,81 +539,80 @@ public class Piece {
         return answer;
     }
 
+    /****
+     * Factory method to create a set of Piece objects given their names.
+     * 
+     * @param names     The names of the Pieces, e.g., "ABCDEFGHIJKLMOPA". A name may be 
+     *                  repeated; anything other than 'A'..'P' is ignored, so "A B C" is fine.
+     * @return          Piece[] containing the instantiated pieces, in the order named
+     * @throws IllegalArgumentException if names includes a lower case letter or one past 'P'
+     ****/
+    public static Piece[] makePieces(String names) {
+        List<Piece> answer = new ArrayList<>();
+        for (char c : names.toCharArray()) {
+            if (Character.isLetter(c)) {
+                if (c < 'A' || c >= 'A' + N_PIECES) {
+                    throw new IllegalArgumentException("There's no piece named '" + c + "'.");
+                }
+                answer.add(new Piece(c - 'A'));
+            }
+        }
+        return answer.toArray(new Piece[0]);
+    }
+
     public final char pName;    // The name of the Piece: 'A'..'P'
     public final int pNum;      // The number of the Piece 0..15
-    private int curPos;         // The current position of the Piece on the board: 
-                                //   -1 => not placed, 0..positions[number].length - 1
-    
+
     /****
      * Constructor for Piece. It's private and meant to be invoked
-     * by the factory class method makePieces.
+     * by the factory class method makePieces. A Piece has no state of its own 
+     * beyond which Piece it is; where it's been put is up to whoever put it there.
      * 
      * @param no    The number of the piece to be instantiated: 0..15
      ****/
     private Piece(int no) {
         pName = (char)(no + 'A');
         pNum = no;
-        curPos = -1;
     }
 
     /****
      * getPieceCells()  Return the coordinates on the board of the three cells occupied 
-     *                  by this piece at its current position. Returns null if the piece 
-     *                  is not currently at a place on the board
+     *                  by this piece at a given position. This allocates a new array 
+     *                  each time; the search uses getCell() and getMask() instead.
      * 
+     * @param pos   The position: 0..positionsFor(pNum) - 1
      * @return  byte[][] The x, y location of each of the three occupied cells for
-     *          the current position.
+     *          the position.
      ****/
-    public byte[][] getPieceCells() {
-        if (curPos <= -1) {
-            return null;
-        }
+    public byte[][] getPieceCells(int pos) {
         byte[][] answer = new byte[3][2];
-        int cellCount = 0;
-        for (byte dy = 0; dy < 3 && cellCount < 3; dy++) {
-            for (byte dx = 0; dx < 3 && cellCount < 3; dx++) {
-                byte[][] ourShape = shapes[positions[pNum][curPos][0]]; // Get the shape we have for our current position
-                if (ourShape[dy][dx] == 1) {                            // NB: shapes[] is rows and columns, so y then x
-                    answer[cellCount][0] = positions[pNum][curPos][1];  // Doing this and the next line in one
-                    answer[cellCount][0] += dx;                         //   statement makes the syntax checker angry 
-                    answer[cellCount][1] = positions[pNum][curPos][2];
-                    answer[cellCount][1] += dy;
-                    cellCount++;
-                }
-            }
+        for (int i = 0; i < 3; i++) {
+            answer[i][0] = (byte)(getCell(pos, i) % Board.WIDTH);
+            answer[i][1] = (byte)(getCell(pos, i) / Board.WIDTH);
         }
         return answer;
     }
-    
-    /****
-     * Move the Piece to its next logical position.
-     * 
-     * @return  Returns the new position. The starting state is -1, meaning "not 
-     *          positioned." Subsequent positions increment by 1. The position after the 
-     *          last is -1 again.
-     ****/
-    public int toNextPosition() {
-        curPos++;
-        if (curPos >= positions[pNum].length) {
-            curPos = -1;
-        }
-        return curPos;
-    }
 
     /****
-     * Get this Piece's current position
-     * 
-     * @return  The current position. -1 ==> not positioned
+     * getCell()    Return the cell number (y * Board.WIDTH + x) of one of the three cells 
+     *              occupied by this piece at a given position.
+     *
+     * @param pos   The position: 0..positionsFor(pNum) - 1
+     * @param i     Which of the three cells: 0..2
+     * @return      The cell number
      ****/
-    int getCurPos() {
-        return curPos;
+    public int getCell(int pos, int i) {
+        return CATALOG.cellFor(pNum, pos, i);
     }
 
     /****
-     * Reset the Piece to the starting state -- i.e., "not positioned."
-     * 
+     * getMask()    Return the cells on the board occupied by this piece at a given 
+     *              position as a bit mask (see PieceCatalog).
+     *
+     * @param pos   The position: 0..positionsFor(pNum) - 1
+     * @return  long The mask of the occupied cells for the position
      ****/
-    public void resetPosition(){
-        curPos = -1;
+    public long getMask(int pos) {
+        return CATALOG.maskFor(pNum, pos);
     }
 }
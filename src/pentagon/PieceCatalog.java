@@ -0,0 +1,340 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the PieceCatalog class, an immutable table of where each of the Pieces 
+ * can go on a board. One catalog can be shared by any number of searches at once.
+ * 
+ * =====
+ *
+ *  @file     PieceCatalog.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+public final class PieceCatalog {
+    private final int width;            // The width of the board in cells
+    private final int height;           // The height of the board in cells
+
+    /****
+     * The cells occupied by each Piece at each of its positions. Cell (x, y) on the board 
+     * is cell number (y * width + x). The three cells for position pos of Piece pNo are 
+     * cells[pNo][3 * pos], cells[pNo][3 * pos + 1] and cells[pNo][3 * pos + 2].
+     ****/
+
+    // cell selector -------------.     3 * position + 0..2
+    // piece selector ---------.  |     0 => Piece A, 1 => Piece B, ...
+    //                         |  |
+    private final int cells[ ][ ];
+
+    /****
+     * The same thing as cells[][] but as a bit mask for each position: cell number n is 
+     * bit n. Placing a Piece is then just a couple of logical operations on the board.
+     ****/
+
+    // position selector ---------.     0..number of possible positions - 1
+    // piece selector ---------.  |     0 => Piece A, 1 => Piece B, ...
+    //                         |  |
+    private final long masks[ ][ ];
+
+    /****
+     * For each Piece and each cell on the board, the positions of the Piece in which that 
+     * cell is the lowest numbered one the Piece occupies. When a board is filled in cell 
+     * order, these are the only positions that can cover the first empty cell.
+     ****/
+
+    // position selector -------------.     0..number of positions with this first cell - 1
+    // cell selector --------------.  |     0..width * height - 1
+    // piece selector ----------.  |  |     0 => Piece A, 1 => Piece B, ...
+    //                          |  |  |
+    private final int firsts[ ][ ][ ];
+
+    /****
+     * Every position of every Piece, numbered as a placement: placement firstPlacement[pNo] + 
+     * pos is Piece pNo in position pos. The sets of placements below are bitsets, 
+     * placementWords longs long, with placement i being bit i % 64 of word i / 64. Each 
+     * placement's conflicts include the placement itself, so one AND with the complement 
+     * takes out everything that can no longer go on the board once it's there.
+     ****/
+    private final int[] firstPlacement;     // The first placement of each Piece, then the total
+    private final int[] placementPiece;     // The Piece of each placement
+    private final int placementWords;       // The longs in a set of placements
+    private final long[][] conflicts;       // The placements each placement overlaps
+    private final long[][] covering;        // The placements covering each cell
+    private final long[][] ofPiece;         // The placements of each Piece
+
+    /****
+     * Constructor. Everything else is worked out from the cells each Piece occupies at 
+     * each of its positions, once, so nothing needs to be calculated (or allocated) while 
+     * searching for solutions.
+     * 
+     * @param width     The width of the board in cells
+     * @param height    The height of the board in cells (width * height <= 64)
+     * @param cells     The cell numbers (y * width + x) occupied by each Piece at each of its 
+     *                  positions, three per position (see cells[][]). The catalog keeps its 
+     *                  own copy.
+     ****/
+    public PieceCatalog(int width, int height, int[][] cells) {
+        if (width * height > Long.SIZE) {
+            throw new IllegalArgumentException("A board of more than 64 cells doesn't fit in a mask.");
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = new int[cells.length][];
+        masks = new long[cells.length][];
+        for (int pNo = 0; pNo < cells.length; pNo++) {
+            assert cells[pNo].length % 3 == 0 : "A position doesn't have exactly three cells.";
+            this.cells[pNo] = cells[pNo].clone();
+            masks[pNo] = new long[cells[pNo].length / 3];
+            for (int i = 0; i < cells[pNo].length; i++) {
+                masks[pNo][i / 3] |= 1L << cells[pNo][i];
+            }
+        }
+        firsts = new int[cells.length][width * height][];
+        for (int pNo = 0; pNo < cells.length; pNo++) {
+            for (int cell = 0; cell < width * height; cell++) {
+                int n = 0;
+                for (long m : masks[pNo]) {
+                    if (Long.numberOfTrailingZeros(m) == cell) {
+                        n++;
+                    }
+                }
+                firsts[pNo][cell] = new int[n];
+                n = 0;
+                for (int pos = 0; pos < masks[pNo].length; pos++) {
+                    if (Long.numberOfTrailingZeros(masks[pNo][pos]) == cell) {
+                        firsts[pNo][cell][n++] = pos;
+                    }
+                }
+            }
+        }
+        firstPlacement = new int[cells.length + 1];
+        for (int pNo = 0; pNo < cells.length; pNo++) {
+            firstPlacement[pNo + 1] = firstPlacement[pNo] + masks[pNo].length;
+        }
+        int nPlacements = firstPlacement[cells.length];
+        placementPiece = new int[nPlacements];
+        placementWords = (nPlacements + Long.SIZE - 1) / Long.SIZE;
+        conflicts = new long[nPlacements][placementWords];
+        covering = new long[width * height][placementWords];
+        ofPiece = new long[cells.length][placementWords];
+        for (int pNo = 0; pNo < cells.length; pNo++) {
+            for (int pos = 0; pos < masks[pNo].length; pos++) {
+                int i = firstPlacement[pNo] + pos;
+                placementPiece[i] = pNo;
+                ofPiece[pNo][i >> 6] |= 1L << i;
+                for (long m = masks[pNo][pos]; m != 0L; m &= m - 1) {
+                    covering[Long.numberOfTrailingZeros(m)][i >> 6] |= 1L << i;
+                }
+            }
+        }
+        for (int i = 0; i < nPlacements; i++) {
+            long mask = placementMask(i);
+            for (int j = 0; j < nPlacements; j++) {
+                if ((mask & placementMask(j)) != 0L) {
+                    conflicts[i][j >> 6] |= 1L << j;
+                }
+            }
+        }
+    }
+
+    /****
+     * Return the width of the board this catalog is for
+     * 
+     * @return      The width in cells
+     ****/
+    public int getWidth() {
+        return width;
+    }
+
+    /****
+     * Return the height of the board this catalog is for
+     * 
+     * @return      The height in cells
+     ****/
+    public int getHeight() {
+        return height;
+    }
+
+    /****
+     * Return the number of distinct Pieces in the catalog
+     * 
+     * @return      The number of Pieces
+     ****/
+    public int getPieceCount() {
+        return cells.length;
+    }
+
+    /****
+     * Return the number of positions a given Piece has
+     * 
+     * @param pNo   The number of the Piece being asked about
+     * @return      The number of positions Piece pNo has
+     ****/
+    public int positionsFor(int pNo) {
+        return masks[pNo].length;
+    }
+
+    /****
+     * Return the cells on the board a given Piece occupies at a given position as a bit 
+     * mask (see masks[][])
+     * 
+     * @param pNo   The number of the Piece being asked about
+     * @param pos   The position being asked about: 0..positionsFor(pNo) - 1
+     * @return      The mask of the occupied cells
+     ****/
+    public long maskFor(int pNo, int pos) {
+        return masks[pNo][pos];
+    }
+
+    /****
+     * Return the cell number (y * width + x) of one of the three cells a given Piece 
+     * occupies at a given position
+     * 
+     * @param pNo   The number of the Piece being asked about
+     * @param pos   The position being asked about: 0..positionsFor(pNo) - 1
+     * @param i     Which of the three cells: 0..2
+     * @return      The cell number
+     ****/
+    public int cellFor(int pNo, int pos, int i) {
+        return cells[pNo][3 * pos + i];
+    }
+
+    /****
+     * Return the positions of a given Piece in which a given cell is the lowest numbered 
+     * cell it occupies (see firsts[][][]). The array is shared; don't modify it.
+     * 
+     * @param pNo   The number of the Piece being asked about
+     * @param cell  The cell number (y * width + x)
+     * @return      The positions, in increasing order
+     ****/
+    int[] positionsStartingAt(int pNo, int cell) {
+        return firsts[pNo][cell];
+    }
+
+    /****
+     * Return the number of placements, i.e., of positions of all the Pieces together
+     * 
+     * @return      The number of placements
+     ****/
+    int placementCount() {
+        return placementPiece.length;
+    }
+
+    /****
+     * Return the number of longs in a set of placements (see conflicts[][])
+     * 
+     * @return      The number of longs
+     ****/
+    int placementWords() {
+        return placementWords;
+    }
+
+    /****
+     * Return the placement number of a given Piece in a given position
+     * 
+     * @param pNo   The number of the Piece
+     * @param pos   The position: 0..positionsFor(pNo) - 1
+     * @return      The placement number
+     ****/
+    int placementOf(int pNo, int pos) {
+        return firstPlacement[pNo] + pos;
+    }
+
+    /****
+     * Return the Piece a placement is of
+     * 
+     * @param i     The placement number
+     * @return      The number of the Piece
+     ****/
+    int pieceOf(int i) {
+        return placementPiece[i];
+    }
+
+    /****
+     * Return the position a placement puts its Piece in
+     * 
+     * @param i     The placement number
+     * @return      The position
+     ****/
+    int positionOf(int i) {
+        return i - firstPlacement[placementPiece[i]];
+    }
+
+    /****
+     * Return the cells a placement covers as a bit mask (see masks[][])
+     * 
+     * @param i     The placement number
+     * @return      The mask of the occupied cells
+     ****/
+    long placementMask(int i) {
+        return masks[placementPiece[i]][i - firstPlacement[placementPiece[i]]];
+    }
+
+    /****
+     * Return the set of placements that overlap a given one, itself included. The array is 
+     * shared; don't modify it.
+     * 
+     * @param i     The placement number
+     * @return      The set of placements
+     ****/
+    long[] conflictsWith(int i) {
+        return conflicts[i];
+    }
+
+    /****
+     * Return the set of placements that cover a given cell. The array is shared; don't 
+     * modify it.
+     * 
+     * @param cell  The cell number (y * width + x)
+     * @return      The set of placements
+     ****/
+    long[] placementsCovering(int cell) {
+        return covering[cell];
+    }
+
+    /****
+     * Return the set of placements of a given Piece. The array is shared; don't modify it.
+     * 
+     * @param pNo   The number of the Piece
+     * @return      The set of placements
+     ****/
+    long[] placementsOf(int pNo) {
+        return ofPiece[pNo];
+    }
+}
@@ -0,0 +1,298 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the PuzzleDesigner class, which looks through a batch of candidate
+ * puzzles -- regions cut from the tiling, each with a set of Pieces to fill it with -- for the
+ * ones with exactly one solution.
+ * 
+ * =====
+ *
+ *  @file     PuzzleDesigner.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class PuzzleDesigner {
+    /****
+     * A good physical puzzle has exactly one solution, so each candidate's search stops as 
+     * soon as it has found a second: all that matters is none, one or more. The candidates 
+     * for the same Region share its PieceCatalog (from the CatalogCache, so it's only 
+     * worked out once ever) and a BitsetSolver, and the Regions are looked at in parallel.
+     ****/
+    public static final int MORE_THAN_ONE = 2;  // What a candidate with more than one solution counts as
+
+    private final ForkJoinPool pool;            // Where the work gets done
+    private final CatalogCache cache;           // Where the Regions' PieceCatalogs come from
+    private final SearchStats stats = new SearchStats();    // What all the searches counted
+
+    /****
+     * A candidate puzzle: a Region and the Pieces to fill it with.
+     */
+    public static final class Candidate {
+        public final Region region;
+        public final int[] counts;              // The number of copies of each Piece, by number
+
+        public Candidate(Region region, int[] counts) {
+            this.region = region;
+            this.counts = counts.clone();
+        }
+
+        /****
+         * @return  The names of the Pieces, e.g., "ABCDEFGHIJKLMNOPA"
+         */
+        public String getPieceNames() {
+            StringBuilder answer = new StringBuilder();
+            for (int pNo = 0; pNo < counts.length; pNo++) {
+                for (int i = 0; i < counts[pNo]; i++) {
+                    answer.append((char)('A' + pNo));
+                }
+            }
+            return answer.toString();
+        }
+    }
+
+    /****
+     * 
+     * Constructor
+     * 
+     * @param pool      The ForkJoinPool to look at the Regions on
+     * @param cache     Where to get (and keep) their PieceCatalogs
+     * 
+     ****/
+    public PuzzleDesigner(ForkJoinPool pool, CatalogCache cache) {
+        this.pool = pool;
+        this.cache = cache;
+    }
+
+    /****
+     * @return  The SearchStats all the searches add what they count to
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /****
+     * Return the Regions to try of a range of sizes: every rectangle of a number of cells in 
+     * the range that's a multiple of three, and each of those with a 1 x 3 or 3 x 1 notch 
+     * cut out of one of its corners if that's still in the range, each at all the different 
+     * places in the tiling it can be cut from.
+     * 
+     * @param minCells  The fewest cells a Region can have
+     * @param maxCells  The most (at most 64)
+     * @return          The Regions, without repeats
+     */
+    public static List<Region> regions(int minCells, int maxCells) {
+        Set<Region> answer = new LinkedHashSet<>();
+        for (int h = 1; h <= Math.min(maxCells, Long.SIZE); h++) {
+            for (int w = 1; w * h <= Math.min(maxCells + 3, Long.SIZE); w++) {
+                if ((w * h) % 3 != 0) {
+                    continue;
+                }
+                long cells = Region.rectangle(w, h).getCells();
+                List<Long> shapes = new ArrayList<>();
+                shapes.add(cells);
+                if (w >= 3 && h >= 3) {
+                    for (int corner = 0; corner < 4; corner++) {
+                        int x0 = (corner & 1) == 0 ? 0 : w - 1;
+                        int y0 = (corner & 2) == 0 ? 0 : h - 1;
+                        int dx = x0 == 0 ? 1 : -1;
+                        int dy = y0 == 0 ? 1 : -1;
+                        long across = 0L;
+                        long down = 0L;
+                        for (int i = 0; i < 3; i++) {
+                            across |= 1L << (y0 * w + x0 + i * dx);
+                            down |= 1L << ((y0 + i * dy) * w + x0);
+                        }
+                        if (w > 3) {                    // (Else it's a narrower rectangle)
+                            shapes.add(cells & ~across);
+                        }
+                        if (h > 3) {
+                            shapes.add(cells & ~down);
+                        }
+                    }
+                }
+                for (long shape : shapes) {
+                    if (Long.bitCount(shape) < minCells || Long.bitCount(shape) > maxCells) {
+                        continue;
+                    }
+                    for (int oy = 0; oy < Tiling.PERIOD; oy++) {
+                        for (int ox = 0; ox < Tiling.PERIOD; ox++) {
+                            answer.add(new Region(w, h, shape, ox, oy));
+                        }
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(answer);
+    }
+
+    /****
+     * Return the sets of Pieces that exactly fill a number of cells and differ from the 
+     * full set of Pieces by at most a given number of Pieces: the full set itself, the full 
+     * set plus each multiset of extras, or the full set less each set of Pieces left out.
+     * 
+     * @param nCells        The number of cells to fill (a multiple of three)
+     * @param maxChanges    The most extra or left out Pieces
+     * @return              The sets, each as the number of copies of each Piece
+     */
+    public static List<int[]> pieceSets(int nCells, int maxChanges) {
+        List<int[]> answer = new ArrayList<>();
+        int change = nCells / 3 - Piece.N_PIECES;
+        if (nCells % 3 != 0 || Math.abs(change) > maxChanges) {
+            return answer;
+        }
+        for (int[] changed : ExtrasSweep.multisets(Math.abs(change))) {
+            int[] counts = new int[Piece.N_PIECES];
+            Arrays.fill(counts, 1);
+            boolean ok = true;
+            for (int i = 0; i < changed.length; i++) {
+                counts[changed[i]] += change > 0 ? 1 : -1;
+                ok &= change > 0 || i == 0 || changed[i] != changed[i - 1];   // (Left out at most once)
+            }
+            if (ok) {
+                answer.add(counts);
+            }
+        }
+        return answer;
+    }
+
+    /****
+     * Return the candidate puzzles for some Regions: each with each of its pieceSets().
+     * 
+     * @param regions       The Regions
+     * @param maxChanges    The most Pieces a set can differ from the full set by
+     * @return              The candidates, Region by Region
+     */
+    public static List<Candidate> candidates(List<Region> regions, int maxChanges) {
+        List<Candidate> answer = new ArrayList<>();
+        for (Region r : regions) {
+            for (int[] counts : pieceSets(r.getCellCount(), maxChanges)) {
+                answer.add(new Candidate(r, counts));
+            }
+        }
+        return answer;
+    }
+
+    /****
+     * Find out how many solutions each candidate has: 0, 1 or MORE_THAN_ONE.
+     * 
+     * @param candidates    The candidates
+     * @return              The number of solutions of each, in the same order
+     * @throws IOException if a PieceCatalog can't be kept in the CatalogCache
+     */
+    public int[] evaluate(List<Candidate> candidates) throws IOException {
+        Map<Region, List<Integer>> byRegion = new LinkedHashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            byRegion.computeIfAbsent(candidates.get(i).region, r -> new ArrayList<>()).add(i);
+        }
+        int[] answer = new int[candidates.size()];
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Map.Entry<Region, List<Integer>> e : byRegion.entrySet()) {
+            tasks.add(() -> {
+                Region region = e.getKey();
+                BitsetSolver solver = new BitsetSolver(cache.get(region), region.getCells());
+                solver.setStats(stats);
+                for (int i : e.getValue()) {
+                    answer[i] = (int)solver.countFor(candidates.get(i).counts, MORE_THAN_ONE);
+                }
+                return null;
+            });
+        }
+        for (Future<Void> f : pool.invokeAll(tasks)) {
+            try {
+                f.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while evaluating the candidates.", ex);
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof IOException) {
+                    throw (IOException)ex.getCause();
+                }
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+        return answer;
+    }
+
+    /****
+     * Return a one line description of a Region, e.g., "8 x 6 at (1, 2), 45 cells".
+     * 
+     * @param region    The Region
+     * @return          The description
+     */
+    public static String describe(Region region) {
+        return String.format("%d x %d at (%d, %d), %d cells", region.getWidth(), region.getHeight(), 
+            region.getOriginX(), region.getOriginY(), region.getCellCount());
+    }
+
+    /****
+     * Print the results of evaluate(): a line for each candidate, then a summary, then each 
+     * candidate with exactly one solution, drawn with its solution.
+     * 
+     * @param out           Where to print
+     * @param candidates    The candidates
+     * @param solutions     The number of solutions of each
+     */
+    public static void printResults(PrintStream out, List<Candidate> candidates, int[] solutions) {
+        int[] tally = new int[MORE_THAN_ONE + 1];
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate c = candidates.get(i);
+            out.printf("%-32s %-22s %s\n", describe(c.region), c.getPieceNames(), 
+                solutions[i] < MORE_THAN_ONE ? String.valueOf(solutions[i]) : "more than 1");
+            tally[solutions[i]]++;
+        }
+        out.printf("\n%d candidates: %d with no solution, %d with exactly one, %d with more than one.\n", 
+            candidates.size(), tally[0], tally[1], tally[MORE_THAN_ONE]);
+        for (int i = 0; i < candidates.size(); i++) {
+            if (solutions[i] == 1) {
+                Candidate c = candidates.get(i);
+                out.printf("\n%s, pieces %s:\n", describe(c.region), c.getPieceNames());
+                new WideBoardSolver(c.region).solve(c.counts, 1, layout -> {
+                    out.print(WideBoardSolver.draw(c.region, layout));
+                    return false;
+                });
+            }
+        }
+    }
+}
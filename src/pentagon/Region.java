@@ -0,0 +1,329 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the Region class, which describes the shape of a board: the cells of
+ * the tiling that pieces have to fill.
+ * 
+ * =====
+ *
+ *  @file     Region.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+public final class Region {
+    public static final int MAX_WIDTH = 63;     // The widest a Region can be (see WideBoardSolver)
+    public static final int MAX_CELLS = 4096;   //   and the most cells its bounding box can have
+
+    private final int width;            // The width of the Region's bounding box in cells
+    private final int height;           //   and its height
+    private final long[] cells;         // The cells in the Region: cell (x, y) is bit n % 64 of 
+                                        //   word n / 64, where n = y * width + x
+    private final int originX;          // Where the top left corner of the bounding box is in 
+    private final int originY;          //   the tiling (which matters mod Tiling.PERIOD)
+
+    /****
+     * Constructor
+     * 
+     * @param width     The width of the bounding box in cells (at most MAX_WIDTH)
+     * @param height    The height of the bounding box in cells (width * height <= MAX_CELLS)
+     * @param cells     The cells in the Region: cell (x, y) is bit n % 64 of cells[n / 64], 
+     *                  where n = y * width + x
+     * @param originX   The column in the tiling of the left side of the bounding box
+     * @param originY   The row in the tiling of the top of the bounding box
+     * @throws IllegalArgumentException if the bounding box is too big or the cells aren't in it
+     */
+    public Region(int width, int height, long[] cells, int originX, int originY) {
+        if (width < 1 || height < 1 || width > MAX_WIDTH || width * height > MAX_CELLS) {
+            throw new IllegalArgumentException("A region can't be " + width + " x " + height + ".");
+        }
+        int nWords = (width * height + Long.SIZE - 1) / Long.SIZE;
+        int spare = nWords * Long.SIZE - width * height;    // (The bits past the last cell)
+        if (cells.length != nWords || (spare > 0 && (cells[nWords - 1] & -(1L << (Long.SIZE - spare))) != 0L)) {
+            throw new IllegalArgumentException("The region has cells outside its " + width + " x " + height + " box.");
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = cells.clone();
+        this.originX = originX;
+        this.originY = originY;
+    }
+
+    /****
+     * Constructor for a Region of at most 64 cells
+     * 
+     * @param width     The width of the bounding box in cells
+     * @param height    The height of the bounding box in cells (width * height <= 64)
+     * @param cells     The cells in the Region: cell (x, y) is bit y * width + x
+     * @param originX   The column in the tiling of the left side of the bounding box
+     * @param originY   The row in the tiling of the top of the bounding box
+     * @throws IllegalArgumentException if the bounding box is too big or the cells aren't in it
+     */
+    public Region(int width, int height, long cells, int originX, int originY) {
+        this(width, height, oneWord(width, height, cells), originX, originY);
+    }
+
+    /****
+     * Return the cells of a Region of at most 64 cells as a one word array of them
+     * 
+     * @param width     The width of the bounding box in cells
+     * @param height    The height of the bounding box in cells
+     * @param cells     The cells in the Region
+     * @return          The array
+     * @throws IllegalArgumentException if the bounding box is bigger than that
+     */
+    private static long[] oneWord(int width, int height, long cells) {
+        if (width * height > Long.SIZE) {
+            throw new IllegalArgumentException("A region of " + width + " x " + height + " cells doesn't fit in a long.");
+        }
+        return new long[] {cells};
+    }
+
+    /****
+     * Return a rectangular Region with its top left corner where the Board's is
+     * 
+     * @param width     The width in cells
+     * @param height    The height in cells
+     * @return          The Region
+     */
+    public static Region rectangle(int width, int height) {
+        long[] cells = new long[(width * height + Long.SIZE - 1) / Long.SIZE];
+        for (int n = 0; n < width * height; n++) {
+            cells[n >> 6] |= 1L << n;
+        }
+        return new Region(width, height, cells, 0, 0);
+    }
+
+    /****
+     * Make a Region from a picture of it: one line per row, '#' for a cell in the Region and 
+     * anything else (e.g., '.') for one that isn't. A line "@ x y" says where the top left 
+     * corner is in the tiling (default: where the Board's is). Lines starting with ';' are 
+     * comments.
+     * 
+     * @param lines     The lines of the picture
+     * @return          The Region
+     * @throws IllegalArgumentException if the picture doesn't make sense
+     */
+    public static Region parse(List<String> lines) {
+        List<String> rows = new ArrayList<>();
+        int x0 = 0;
+        int y0 = 0;
+        for (String line : lines) {
+            if (line.startsWith(";")) {
+                continue;
+            }
+            if (line.startsWith("@")) {
+                String[] at = line.substring(1).trim().split("\\s+");
+                if (at.length != 2) {
+                    throw new IllegalArgumentException("Expected \"@ x y\", not \"" + line + "\".");
+                }
+                x0 = Integer.parseInt(at[0]);
+                y0 = Integer.parseInt(at[1]);
+                continue;
+            }
+            rows.add(line.stripTrailing());
+        }
+        while (!rows.isEmpty() && rows.get(rows.size() - 1).isEmpty()) {
+            rows.remove(rows.size() - 1);
+        }
+        int w = rows.stream().mapToInt(String::length).max().orElse(0);
+        int h = rows.size();
+        if (w * h == 0) {
+            throw new IllegalArgumentException("The region has no cells.");
+        }
+        if (w > MAX_WIDTH || w * h > MAX_CELLS) {
+            throw new IllegalArgumentException("A region can't be " + w + " x " + h + ".");
+        }
+        long[] cells = new long[(w * h + Long.SIZE - 1) / Long.SIZE];
+        for (int y = 0; y < h; y++) {
+            String row = rows.get(y);
+            for (int x = 0; x < row.length(); x++) {
+                if (row.charAt(x) == '#') {
+                    cells[(y * w + x) >> 6] |= 1L << (y * w + x);
+                }
+            }
+        }
+        return new Region(w, h, cells, x0, y0);
+    }
+
+    /****
+     * Read a Region from a file with a picture of it in it (see parse())
+     * 
+     * @param path      The file
+     * @return          The Region
+     * @throws IOException if it can't be read
+     */
+    public static Region read(Path path) throws IOException {
+        return parse(Files.readAllLines(path));
+    }
+
+    /****
+     * @return  The width of the Region's bounding box in cells
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /****
+     * @return  The height of the Region's bounding box in cells
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /****
+     * @return  The cells in the Region: cell (x, y) is bit y * getWidth() + x
+     * @throws IllegalStateException if the bounding box has more than 64 cells
+     */
+    public long getCells() {
+        if (cells.length > 1) {
+            throw new IllegalStateException("A region of " + width + " x " + height + " cells doesn't fit in a long.");
+        }
+        return cells[0];
+    }
+
+    /****
+     * @return  The cells in the Region: cell (x, y) is bit n % 64 of word n / 64, where 
+     *          n = y * getWidth() + x
+     */
+    public long[] getCellWords() {
+        return cells.clone();
+    }
+
+    /****
+     * @return  Whether the bounding box has more cells than fit in a long
+     */
+    public boolean isWide() {
+        return cells.length > 1;
+    }
+
+    /****
+     * @return  The number of cells in the Region
+     */
+    public int getCellCount() {
+        int answer = 0;
+        for (long w : cells) {
+            answer += Long.bitCount(w);
+        }
+        return answer;
+    }
+
+    /****
+     * @return  The column in the tiling of the left side of the bounding box
+     */
+    public int getOriginX() {
+        return originX;
+    }
+
+    /****
+     * @return  The row in the tiling of the top of the bounding box
+     */
+    public int getOriginY() {
+        return originY;
+    }
+
+    /****
+     * Return whether a cell is in the Region
+     * 
+     * @param x     The column, relative to the bounding box
+     * @param y     The row, relative to the bounding box
+     * @return      true if it is (false if it's outside the bounding box)
+     */
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height && (cells[(y * width + x) >> 6] & (1L << (y * width + x))) != 0L;
+    }
+
+    /****
+     * Return a fingerprint of the Region, which changes if anything about it does. (See 
+     * CatalogCache.)
+     * 
+     * @param h     The fingerprint so far (FNV-1a, 64 bits)
+     * @return      The fingerprint including the Region
+     */
+    long fingerprint(long h) {
+        h = CatalogCache.mix(h, width);
+        h = CatalogCache.mix(h, height);
+        h = CatalogCache.mix(h, Math.floorMod(originX, Tiling.PERIOD));
+        h = CatalogCache.mix(h, Math.floorMod(originY, Tiling.PERIOD));
+        for (long w : cells) {
+            for (int i = 0; i < Long.BYTES; i++) {
+                h = CatalogCache.mix(h, (int)(w >>> (8 * i)) & 0xFF);
+            }
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Region)) {
+            return false;
+        }
+        Region r = (Region)o;
+        return width == r.width && height == r.height && Arrays.equals(cells, r.cells) && 
+            Math.floorMod(originX - r.originX, Tiling.PERIOD) == 0 && 
+            Math.floorMod(originY - r.originY, Tiling.PERIOD) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(fingerprint(0L));
+    }
+
+    /**
+     * Return the picture of the Region, the way parse() reads it.
+     */
+    @Override
+    public String toString() {
+        StringBuilder answer = new StringBuilder();
+        if (originX != 0 || originY != 0) {
+            answer.append("@ ").append(originX).append(' ').append(originY).append('\n');
+        }
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                answer.append(contains(x, y) ? '#' : '.');
+            }
+            answer.append('\n');
+        }
+        return answer.toString();
+    }
+}
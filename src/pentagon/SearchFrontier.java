@@ -0,0 +1,129 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the SearchFrontier class, which records where Board.solve() had got to
+ * in its search so that a later solve() can carry on from there.
+ * 
+ * =====
+ *
+ *  @file     SearchFrontier.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+
+public final class SearchFrontier {
+    private final int[] extras;         // The extra Pieces solve() was run with; null ==> none
+    private final int combination;      // How many combinations solve() had gone through before this one
+    private final boolean solved;       // Whether this combination has had a solution yet
+    private final int[] positions;      // The position of each Piece placed in this combination, in 
+                                        //   order, the last being the one to try next after; empty ==> 
+                                        //   this combination hasn't been started
+
+    /****
+     * Constructor
+     * 
+     * @param extras        The extra Pieces solve() was run with; null ==> none
+     * @param combination   The number of combinations (including skipped ones) solve() had 
+     *                      gone through before the one it's working on
+     * @param solved        Whether the combination it's working on has had a solution yet
+     * @param positions     The position of each Piece of that combination, in order, as far 
+     *                      as it has got. The search carries on after the last of these. 
+     *                      Empty ==> start the combination from the beginning.
+     */
+    public SearchFrontier(int[] extras, int combination, boolean solved, int[] positions) {
+        this.extras = extras == null ? null : extras.clone();
+        this.combination = combination;
+        this.solved = solved;
+        this.positions = positions.clone();
+    }
+
+    /****
+     * Return the extra Pieces solve() was run with
+     * 
+     * @return      Their numbers; null ==> none
+     */
+    public int[] getExtras() {
+        return extras == null ? null : extras.clone();
+    }
+
+    /****
+     * Return whether this is a frontier of solve(extras, ...) for a given set of extras
+     * 
+     * @param extras    The extras
+     * @return          true if they're the same as the ones solve() was run with
+     */
+    public boolean isFor(int[] extras) {
+        return Arrays.equals(this.extras, extras);
+    }
+
+    /****
+     * Return the number of combinations solve() had gone through before the one it's on
+     * 
+     * @return      The number of combinations
+     */
+    public int getCombination() {
+        return combination;
+    }
+
+    /****
+     * Return whether the combination solve() is working on has had a solution yet
+     * 
+     * @return      true if so
+     */
+    public boolean isSolved() {
+        return solved;
+    }
+
+    /****
+     * Return the positions of the Pieces of the combination solve() is working on
+     * 
+     * @return      The positions, in order; empty ==> it hasn't been started
+     */
+    public int[] getPositions() {
+        return positions.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("extras %s, combination %d, positions %s", 
+            Arrays.toString(extras), combination, Arrays.toString(positions));
+    }
+}
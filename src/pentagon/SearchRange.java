@@ -0,0 +1,106 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the SearchRange class, which describes a part of Board.solveForSet()'s
+ * search that can be done on its own, e.g., by another thread.
+ * 
+ * =====
+ *
+ *  @file     SearchRange.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+
+public final class SearchRange {
+    private final int[] prefix;         // The positions of the first Pieces of the set, in order
+    private final int from;             // The first position to try the next Piece at
+    private final int to;               //   and the one after the last
+
+    /****
+     * Constructor
+     * 
+     * @param prefix    The positions the first prefix.length Pieces of the set are at
+     * @param from      The first position of the next Piece to search under
+     * @param to        The position after the last one to search under
+     */
+    public SearchRange(int[] prefix, int from, int to) {
+        this.prefix = prefix.clone();
+        this.from = from;
+        this.to = to;
+    }
+
+    /****
+     * Return the positions of the Pieces the range is below
+     * 
+     * @return      The positions, in order
+     */
+    public int[] getPrefix() {
+        return prefix.clone();
+    }
+
+    /****
+     * Return the number of the Piece in the set whose positions the range splits
+     * 
+     * @return      The index in the set
+     */
+    public int getDepth() {
+        return prefix.length;
+    }
+
+    /****
+     * @return      The first position of the Piece at getDepth() in the range
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /****
+     * @return      The position after the last one of the Piece at getDepth() in the range
+     */
+    public int getTo() {
+        return to;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(prefix) + " + [" + from + ", " + to + ")";
+    }
+}
@@ -0,0 +1,226 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the SearchStats class, which keeps the running totals of what the
+ * solvers have done (nodes visited, placements tried and rejected, backtracks at each depth,
+ * combinations finished, solutions found) where they can be read while a search is running,
+ * including over JMX.
+ * 
+ * =====
+ *
+ *  @file     SearchStats.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.*;
+import javax.management.*;
+
+public final class SearchStats implements SearchStatsMBean {
+    static final long FLUSH_EVERY = 1L << 20;   // Most nodes a search counts before passing them on
+
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder tried = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder deadEnds = new LongAdder();
+    private final LongAdder pruned = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder combinations = new LongAdder();
+    private final LongAdder solutions = new LongAdder();
+    private final AtomicLongArray nodesByDepth = new AtomicLongArray(Board.CAPACITY);
+    private final AtomicLongArray backtracksByDepth = new AtomicLongArray(Board.CAPACITY);
+    private volatile long startTime = System.nanoTime();
+
+    /****
+     * The counts one search has gathered but not yet added to its SearchStats. A search 
+     * counts into one of these with plain arithmetic, which costs next to nothing, and hands 
+     * it to SearchStats.add() when it finishes, or every FLUSH_EVERY nodes if it runs long.
+     * Only ever used by one thread at a time.
+     */
+    static final class Batch {
+        long nodes;                                 // Placements made
+        long tried;                                 // Placements attempted
+        long rejected;                              //   that overlapped something already there
+        long deadEnds;                              // Placements taken back for leaving a dead region
+        long pruned;                                // Positions skipped as swapping repeated Pieces
+        long skipped;                               // Combinations skipped as repeats
+        long combinations;                          // Combinations finished
+        long solutions;                             // Solutions found
+        final long[] nodesByDepth = new long[Board.CAPACITY];       // Placements made at each depth
+        final long[] backtracksByDepth = new long[Board.CAPACITY];  // Times the search ran out of 
+                                                                    //   ways to go on at each depth
+    }
+
+    /****
+     * Add a Batch of counts to the totals and empty it.
+     * 
+     * @param b     The Batch
+     */
+    void add(Batch b) {
+        nodes.add(b.nodes);
+        tried.add(b.tried);
+        rejected.add(b.rejected);
+        deadEnds.add(b.deadEnds);
+        pruned.add(b.pruned);
+        skipped.add(b.skipped);
+        combinations.add(b.combinations);
+        solutions.add(b.solutions);
+        b.nodes = b.tried = b.rejected = b.deadEnds = b.pruned = b.skipped = b.combinations = b.solutions = 0;
+        for (int d = 0; d < Board.CAPACITY; d++) {
+            if (b.nodesByDepth[d] != 0) {
+                nodesByDepth.addAndGet(d, b.nodesByDepth[d]);
+                b.nodesByDepth[d] = 0;
+            }
+            if (b.backtracksByDepth[d] != 0) {
+                backtracksByDepth.addAndGet(d, b.backtracksByDepth[d]);
+                b.backtracksByDepth[d] = 0;
+            }
+        }
+    }
+
+    /****
+     * Make this SearchStats visible over JMX (e.g., in JConsole) as 
+     * pentagon:type=SearchStats,name=name.
+     * 
+     * @param name      The name to give it
+     * @throws JMException  If it can't be registered, e.g., because the name is taken
+     */
+    public void register(String name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, 
+            new ObjectName("pentagon:type=SearchStats,name=" + ObjectName.quote(name)));
+    }
+
+    @Override
+    public long getNodeCount() {
+        return nodes.sum();
+    }
+
+    @Override
+    public long getTriedCount() {
+        return tried.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public long getDeadEndCount() {
+        return deadEnds.sum();
+    }
+
+    @Override
+    public long getPrunedCount() {
+        return pruned.sum();
+    }
+
+    @Override
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    @Override
+    public long getCombinationCount() {
+        return combinations.sum();
+    }
+
+    @Override
+    public long getSolutionCount() {
+        return solutions.sum();
+    }
+
+    @Override
+    public long[] getNodesByDepth() {
+        long[] answer = new long[Board.CAPACITY];
+        for (int d = 0; d < answer.length; d++) {
+            answer[d] = nodesByDepth.get(d);
+        }
+        return answer;
+    }
+
+    @Override
+    public long[] getBacktracksByDepth() {
+        long[] answer = new long[Board.CAPACITY];
+        for (int d = 0; d < answer.length; d++) {
+            answer[d] = backtracksByDepth.get(d);
+        }
+        return answer;
+    }
+
+    @Override
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startTime) / 1_000_000;
+    }
+
+    @Override
+    public double getNodesPerSecond() {
+        long nanos = System.nanoTime() - startTime;
+        return nanos == 0 ? 0.0 : getNodeCount() * 1e9 / nanos;
+    }
+
+    /****
+     * Return a table of the number of nodes visited and backtracks made at each depth, and 
+     * the branching factor (nodes at the next depth per node at this one) from each.
+     * 
+     * @return      The table, one line per depth
+     */
+    public String depthTable() {
+        long[] n = getNodesByDepth();
+        long[] b = getBacktracksByDepth();
+        StringBuilder answer = new StringBuilder("Depth         Nodes    Backtracks  Branching\n");
+        for (int d = 0; d < n.length; d++) {
+            answer.append(String.format("%5d  %12d  %12d", d, n[d], b[d]));
+            if (d + 1 < n.length && n[d] > 0) {
+                answer.append(String.format("  %9.3f", (double)n[d + 1] / n[d]));
+            }
+            answer.append('\n');
+        }
+        return answer.toString();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d nodes in %.1f s (%.0f nodes/sec), %d placements tried, %d rejected, " +
+            "%d dead ends, %d combinations, %d solutions", 
+            getNodeCount(), getElapsedMillis() / 1000.0, getNodesPerSecond(), getTriedCount(), 
+            getRejectedCount(), getDeadEndCount(), getCombinationCount(), getSolutionCount());
+    }
+}
@@ -0,0 +1,116 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file defines the SearchStatsMBean interface: what JMX shows of a SearchStats.
+ * 
+ * =====
+ *
+ *  @file     SearchStatsMBean.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+public interface SearchStatsMBean {
+    /****
+     * @return  The number of placements made, i.e., the number of nodes in the search 
+     *          trees visited
+     ****/
+    long getNodeCount();
+
+    /****
+     * @return  The number of placements attempted, whether or not they fit
+     ****/
+    long getTriedCount();
+
+    /****
+     * @return  The number of placements attempted that overlapped a Piece already there 
+     *          (or, for DlxSolver, would have put copies of a Piece out of order)
+     ****/
+    long getRejectedCount();
+
+    /****
+     * @return  The number of placements taken back because they left part of the Board 
+     *          impossible to fill
+     ****/
+    long getDeadEndCount();
+
+    /****
+     * @return  The number of positions skipped because they'd only have swapped copies of 
+     *          a repeated Piece
+     ****/
+    long getPrunedCount();
+
+    /****
+     * @return  The number of combinations of Pieces skipped because they were the same as 
+     *          ones already done
+     ****/
+    long getSkippedCount();
+
+    /****
+     * @return  The number of combinations of Pieces finished
+     ****/
+    long getCombinationCount();
+
+    /****
+     * @return  The number of solutions found
+     ****/
+    long getSolutionCount();
+
+    /****
+     * @return  The number of placements made at each depth, i.e., with that many Pieces 
+     *          already on the Board
+     ****/
+    long[] getNodesByDepth();
+
+    /****
+     * @return  The number of times the search ran out of ways to go on at each depth and 
+     *          went back to the one before
+     ****/
+    long[] getBacktracksByDepth();
+
+    /****
+     * @return  The time since the SearchStats was made, in milliseconds
+     ****/
+    long getElapsedMillis();
+
+    /****
+     * @return  getNodeCount() per second of getElapsedMillis()
+     ****/
+    double getNodesPerSecond();
+}
@@ -0,0 +1,214 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the Solution class, an immutable record of one way of filling the 
+ * Board: where each of the Pieces used went, and which Pieces were left out or repeated.
+ * 
+ * =====
+ *
+ *  @file     Solution.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+
+public final class Solution {
+    private final int[] pieces;         // The number of each Piece used, in increasing order
+    private final int[] positions;      //   and the position each of them is in
+    private final char[] owner;         // The name of the Piece in each cell, by cell number
+    private final int[] omitted;        // The numbers of the Pieces not used at all
+    private final int[] repeated;       // The numbers of the Pieces used more than once
+
+    /****
+     * Constructor
+     * 
+     * @param pNos      The number of each Piece used, in any order
+     * @param pos       The position of each of those Pieces
+     * @param n         How many Pieces were used (the first n entries of pNos and pos)
+     ****/
+    public Solution(int[] pNos, int[] pos, int n) {
+        long[] placements = new long[n];
+        for (int i = 0; i < n; i++) {
+            placements[i] = ((long)pNos[i] << 32) | pos[i];
+        }
+        Arrays.sort(placements);
+        pieces = new int[n];
+        positions = new int[n];
+        owner = new char[Board.WIDTH * Board.HEIGHT];
+        Arrays.fill(owner, ' ');
+        int[] nUsed = new int[Piece.N_PIECES];
+        for (int i = 0; i < n; i++) {
+            pieces[i] = (int)(placements[i] >>> 32);
+            positions[i] = (int)placements[i];
+            nUsed[pieces[i]]++;
+            for (int k = 0; k < 3; k++) {
+                owner[Piece.CATALOG.cellFor(pieces[i], positions[i], k)] = (char)(pieces[i] + 'A');
+            }
+        }
+        int nOmitted = 0;
+        int nRepeated = 0;
+        for (int count : nUsed) {
+            nOmitted += count == 0 ? 1 : 0;
+            nRepeated += count > 1 ? 1 : 0;
+        }
+        omitted = new int[nOmitted];
+        repeated = new int[nRepeated];
+        nOmitted = 0;
+        nRepeated = 0;
+        for (int pNo = 0; pNo < nUsed.length; pNo++) {
+            if (nUsed[pNo] == 0) {
+                omitted[nOmitted++] = pNo;
+            } else if (nUsed[pNo] > 1) {
+                repeated[nRepeated++] = pNo;
+            }
+        }
+    }
+
+    /****
+     * Return the number of Pieces on the Board
+     * 
+     * @return      The number of Pieces (normally Board.CAPACITY)
+     ****/
+    public int getPieceCount() {
+        return pieces.length;
+    }
+
+    /****
+     * Return the number of one of the Pieces on the Board. The Pieces are in increasing 
+     * order of number and, for copies of the same Piece, position.
+     * 
+     * @param i     Which Piece: 0..getPieceCount() - 1
+     * @return      Its number
+     ****/
+    public int getPiece(int i) {
+        return pieces[i];
+    }
+
+    /****
+     * Return the position of one of the Pieces on the Board
+     * 
+     * @param i     Which Piece: 0..getPieceCount() - 1
+     * @return      Its position
+     ****/
+    public int getPosition(int i) {
+        return positions[i];
+    }
+
+    /****
+     * Return the name of the Piece in a given cell of the Board
+     * 
+     * @param x     The column: 0..Board.WIDTH - 1
+     * @param y     The row: 0..Board.HEIGHT - 1
+     * @return      The name of the Piece ('A'..'P'), or ' ' if the cell is empty
+     ****/
+    public char getOwner(int x, int y) {
+        return owner[y * Board.WIDTH + x];
+    }
+
+    /****
+     * Return the numbers of the Pieces that weren't used
+     * 
+     * @return      The Piece numbers, in increasing order
+     ****/
+    public int[] getOmitted() {
+        return omitted.clone();
+    }
+
+    /****
+     * Return the numbers of the Pieces that were used more than once
+     * 
+     * @return      The Piece numbers, in increasing order
+     ****/
+    public int[] getRepeated() {
+        return repeated.clone();
+    }
+
+    /****
+     * Return the Board as Board.toString() would show it
+     * 
+     * @return      The picture of the Board
+     ****/
+    public String getBoard() {
+        return Board.render(owner);
+    }
+
+    /****
+     * Return the names of the Pieces used: each Piece once, in order, followed by any 
+     * repeats, the way the README lists them.
+     * 
+     * @return      The names, separated by spaces
+     ****/
+    public String getPieceNames() {
+        StringBuilder answer = new StringBuilder();
+        for (int i = 0; i < pieces.length; i++) {
+            if (i == 0 || pieces[i] != pieces[i - 1]) {
+                answer.append((char)(pieces[i] + 'A')).append(' ');
+            }
+        }
+        for (int i = 1; i < pieces.length; i++) {
+            if (pieces[i] == pieces[i - 1]) {
+                answer.append((char)(pieces[i] + 'A')).append(' ');
+            }
+        }
+        return answer.toString().trim();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Solution)) {
+            return false;
+        }
+        return Arrays.equals(owner, ((Solution)o).owner);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(owner);
+    }
+
+    /**
+     * Return the string representation of the Solution: the Board followed by the names of 
+     * the Pieces used.
+     */
+    @Override
+    public String toString() {
+        return getBoard() + getPieceNames() + "\n";
+    }
+}
@@ -2,14 +2,14 @@
  * 
  * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
  * 
- * This file implements the driver program that actually instantiates the Board and Pieces and 
- * uses them to solve the puzzle.
+ * This file implements the SolutionEvent class, the JDK Flight Recorder event for each
+ * solution a solver finds.
  * 
  * =====
  *
- *  @file     App.java 
+ *  @file     SolutionEvent.java 
  * 
- *  @version  Version 1.0.0, October 2022
+ *  @version  Version 1.0.0, October 2026
  *
  *  @author   D. L. Ehnebuske
  *
@@ -45,18 +45,33 @@
  *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  * 
 ****/
-public class App {
+package pentagon;
+
+import jdk.jfr.*;
+
+@Name("pentagon.Solution")
+@Label("Solution Found")
+@Category("Pentagon Tiling Puzzle")
+@Description("A solver found a solution")
+@StackTrace(false)
+final class SolutionEvent extends Event {
+    @Label("Pieces")
+    String pieces;
+
+    @Label("Board")
+    String board;
 
     /****
-     * The driver program
-     * @param args          Not using these
-     * @throws Exception
+     * Commit an event, if they're being recorded, for a given Solution.
+     * 
+     * @param s     The Solution
      */
-    public static void main(String[] args) throws Exception {
-        Board board = new Board();
-        for (int i = Piece.A; i < Piece.N_PIECES; i++) {
-            System.out.printf("\nAdd extra piece %c.\n", (char)(i + 'A'));
-            board.solve(i);
+    static void commit(Solution s) {
+        SolutionEvent event = new SolutionEvent();
+        if (event.shouldCommit()) {
+            event.pieces = s.getPieceNames();
+            event.board = s.getBoard();
+            event.commit();
         }
     }
 }
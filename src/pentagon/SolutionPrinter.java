@@ -0,0 +1,91 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the SolutionPrinter class, a SolutionListener that prints each 
+ * Solution the way the program always has.
+ * 
+ * =====
+ *
+ *  @file     SolutionPrinter.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+import java.io.PrintStream;
+
+public class SolutionPrinter implements SolutionListener {
+    private final PrintStream out;      // Where to print
+
+    /****
+     * Constructor
+     * 
+     * @param out   Where to print the solutions
+     ****/
+    public SolutionPrinter(PrintStream out) {
+        this.out = out;
+    }
+
+    /****
+     * Print the solution: the Board followed by the names of the Pieces used.
+     * 
+     * @param s     The solution
+     * @return      true (always keep going)
+     ****/
+    @Override
+    public boolean solutionFound(Solution s) {
+        out.print("\n");
+        out.println(s.getBoard());
+        out.println(s.getPieceNames());
+        return true;
+    }
+
+    /****
+     * Print a "*" for each combination of Pieces that has no solutions, to show we're alive.
+     * 
+     * @param comb      The combination of Pieces
+     * @param solved    Whether any solutions were found using it
+     ****/
+    @Override
+    public void combinationDone(Piece[] comb, boolean solved) {
+        if (!solved) {
+            out.print("*");
+        }
+    }
+}
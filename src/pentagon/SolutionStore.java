@@ -0,0 +1,404 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the SolutionStore class, which reads a file of Solutions written by
+ * SolutionStoreWriter. The file, and an index of it by the set of Pieces each Solution uses, are
+ * memory mapped, so millions of Solutions can be looked through without reading any text.
+ * 
+ * =====
+ *
+ *  @file     SolutionStore.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.IOException;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/****
+ * The solution file is a 16 byte header followed by one fixed size record for each Solution 
+ * appended to it. A record is the number and position (a byte each) of each of the 
+ * Board.CAPACITY Pieces, in the order Solution keeps them, so it's 32 bytes, and the same 
+ * Solution always has the same record.
+ * 
+ * The index, in a file next to it with ".idx" added to its name, lists the records grouped by 
+ * the multiset of Pieces they use, leaving out any that repeat an earlier one. Since it's 
+ * only ever added to, the solution file can be longer than the index says; the index is 
+ * brought up to date when the file is opened.
+ */
+public final class SolutionStore implements AutoCloseable {
+    static final int MAGIC = 0x50545353;                    // "PTSS"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;                      // Bytes before the first record
+    static final int RECORD_SIZE = 2 * Board.CAPACITY;      // Bytes in each record
+    private static final int INDEX_MAGIC = 0x50545349;      // "PTSI"
+    private static final int INDEX_HEADER_SIZE = 20;
+    private static final int KEY_SIZE = 16;                 // Bytes per multiset in the index
+
+    private final MappedByteBuffer records;                 // The solution file
+    private final MappedByteBuffer index;                   //   and its index
+    private final int nKeys;                                // The number of different multisets
+    private final int nSolutions;                           //   and of different Solutions
+    private final int keysAt;                               // Where in index the multisets start
+    private final int entriesAt;                            //   and the record numbers, in order
+
+    private SolutionStore(MappedByteBuffer records, MappedByteBuffer index) {
+        this.records = records;
+        this.index = index;
+        nSolutions = index.getInt(12);
+        nKeys = index.getInt(16);
+        keysAt = INDEX_HEADER_SIZE;
+        entriesAt = keysAt + nKeys * KEY_SIZE;
+    }
+
+    /****
+     * Open a solution file, (re)building its index if it's missing or out of date.
+     * 
+     * @param path      The solution file
+     * @return          The SolutionStore
+     * @throws IOException If it can't be read or isn't a solution file
+     */
+    public static SolutionStore open(Path path) throws IOException {
+        MappedByteBuffer records;
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            records = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        }
+        checkHeader(records, path);
+        int nRecords = (records.capacity() - HEADER_SIZE) / RECORD_SIZE;
+        Path indexPath = indexPath(path);
+        MappedByteBuffer index = mapIndex(indexPath);
+        if (index == null || index.getInt(8) != nRecords) {
+            writeIndex(records, nRecords, indexPath);
+            index = mapIndex(indexPath);
+        }
+        return new SolutionStore(records, index);
+    }
+
+    /****
+     * Throw an IOException if the header of a solution file isn't right for this Board.
+     */
+    static void checkHeader(ByteBuffer header, Path path) throws IOException {
+        if (header.capacity() < HEADER_SIZE || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException(path + " isn't a solution file.");
+        }
+        if (header.get(8) != Board.WIDTH || header.get(9) != Board.HEIGHT || header.get(10) != Board.CAPACITY) {
+            throw new IOException(path + " holds solutions for a different board.");
+        }
+    }
+
+    /****
+     * Return the header of a solution file for this Board.
+     */
+    static ByteBuffer header() {
+        ByteBuffer answer = ByteBuffer.allocate(HEADER_SIZE);
+        answer.putInt(MAGIC).putInt(VERSION).put((byte)Board.WIDTH).put((byte)Board.HEIGHT).put((byte)Board.CAPACITY);
+        answer.clear();
+        return answer;
+    }
+
+    private static Path indexPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".idx");
+    }
+
+    private static MappedByteBuffer mapIndex(Path indexPath) throws IOException {
+        if (!Files.exists(indexPath)) {
+            return null;
+        }
+        try (FileChannel ch = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            MappedByteBuffer answer = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            if (answer.capacity() < INDEX_HEADER_SIZE || answer.getInt(0) != INDEX_MAGIC || answer.getInt(4) != VERSION) {
+                return null;
+            }
+            return answer;
+        }
+    }
+
+    /****
+     * Write the index of the first nRecords records of a solution file.
+     */
+    private static void writeIndex(MappedByteBuffer records, int nRecords, Path indexPath) throws IOException {
+        Integer[] order = new Integer[nRecords];
+        long[] keys = new long[nRecords];
+        for (int r = 0; r < nRecords; r++) {
+            order[r] = r;
+            keys[r] = key(records, HEADER_SIZE + r * RECORD_SIZE);
+        }
+        Comparator<Integer> byRecord = (a, b) -> compareRecords(records, a, b);
+        Arrays.sort(order, Comparator.<Integer>comparingLong(r -> keys[r]).thenComparing(byRecord)
+            .thenComparing(Comparator.naturalOrder()));
+
+        int[] entries = new int[nRecords];
+        long[] distinctKeys = new long[nRecords];
+        int[] starts = new int[nRecords];
+        int nEntries = 0;
+        int nDistinctKeys = 0;
+        for (int i = 0; i < nRecords; i++) {
+            int r = order[i];
+            if (nEntries > 0 && keys[entries[nEntries - 1]] == keys[r] && byRecord.compare(entries[nEntries - 1], r) == 0) {
+                continue;                                   // The same Solution as the one before
+            }
+            if (nDistinctKeys == 0 || distinctKeys[nDistinctKeys - 1] != keys[r]) {
+                distinctKeys[nDistinctKeys] = keys[r];
+                starts[nDistinctKeys++] = nEntries;
+            }
+            entries[nEntries++] = r;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(INDEX_HEADER_SIZE + nDistinctKeys * KEY_SIZE + nEntries * 4);
+        out.putInt(INDEX_MAGIC).putInt(VERSION).putInt(nRecords).putInt(nEntries).putInt(nDistinctKeys);
+        for (int k = 0; k < nDistinctKeys; k++) {
+            int end = k + 1 < nDistinctKeys ? starts[k + 1] : nEntries;
+            out.putLong(distinctKeys[k]).putInt(starts[k]).putInt(end - starts[k]);
+        }
+        for (int i = 0; i < nEntries; i++) {
+            out.putInt(entries[i]);
+        }
+        out.flip();
+        Path tmp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, 
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                ch.write(out);
+            }
+        }
+        Files.move(tmp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /****
+     * Compare two records byte by byte
+     */
+    private static int compareRecords(ByteBuffer records, int a, int b) {
+        int atA = HEADER_SIZE + a * RECORD_SIZE;
+        int atB = HEADER_SIZE + b * RECORD_SIZE;
+        for (int i = 0; i < RECORD_SIZE; i++) {
+            int diff = Byte.compare(records.get(atA + i), records.get(atB + i));
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return 0;
+    }
+
+    /****
+     * Return the multiset key of the record at a given offset
+     */
+    private static long key(ByteBuffer records, int at) {
+        long answer = 0;
+        for (int k = 0; k < Board.CAPACITY; k++) {
+            answer += 1L << (4 * records.get(at + 2 * k));
+        }
+        return answer;
+    }
+
+    /****
+     * Return the key the index uses for a multiset of Pieces: four bits for each Piece 
+     * giving how many copies of it there are, Piece A in the lowest four.
+     * 
+     * @param counts    The number of copies of each Piece, by Piece number
+     * @return          The key
+     */
+    public static long multisetKey(int[] counts) {
+        long answer = 0;
+        for (int pNo = 0; pNo < counts.length; pNo++) {
+            if (counts[pNo] < 0 || counts[pNo] > 15) {
+                throw new IllegalArgumentException("The index can't hold " + counts[pNo] + " copies of a piece.");
+            }
+            answer |= (long)counts[pNo] << (4 * pNo);
+        }
+        return answer;
+    }
+
+    /****
+     * Return the number of different Solutions in the store
+     * 
+     * @return      The number
+     */
+    public int size() {
+        return nSolutions;
+    }
+
+    /****
+     * Return where in the solution file the i-th Solution's record is
+     */
+    private int recordAt(int i) {
+        return HEADER_SIZE + index.getInt(entriesAt + 4 * i) * RECORD_SIZE;
+    }
+
+    /****
+     * Return the number of one of the Pieces of one of the Solutions, without making a 
+     * Solution. Together with getPosition() this lets the Solutions be looked through as 
+     * fast as the file can be read.
+     * 
+     * @param i     Which Solution: 0..size() - 1, in index order
+     * @param k     Which Piece: 0..Board.CAPACITY - 1, in the order Solution keeps them
+     * @return      Its number
+     */
+    public int getPiece(int i, int k) {
+        return records.get(recordAt(i) + 2 * k);
+    }
+
+    /****
+     * Return the position of one of the Pieces of one of the Solutions (see getPiece()).
+     * 
+     * @param i     Which Solution: 0..size() - 1, in index order
+     * @param k     Which Piece: 0..Board.CAPACITY - 1, in the order Solution keeps them
+     * @return      Its position
+     */
+    public int getPosition(int i, int k) {
+        return records.get(recordAt(i) + 2 * k + 1) & 0xFF;
+    }
+
+    /****
+     * Return one of the Solutions
+     * 
+     * @param i     Which: 0..size() - 1, in index order
+     * @return      The Solution
+     */
+    public Solution get(int i) {
+        return solutionAt(recordAt(i));
+    }
+
+    /****
+     * Return the number of records in the solution file, repeats and all
+     * 
+     * @return      The number
+     */
+    public int getRecordCount() {
+        return (records.capacity() - HEADER_SIZE) / RECORD_SIZE;
+    }
+
+    /****
+     * Return one of the Solutions in the order they were appended, repeats and all (e.g., to 
+     * replay what a Checkpointed sweep had found)
+     * 
+     * @param r     Which: 0..getRecordCount() - 1
+     * @return      The Solution
+     */
+    public Solution getRecord(int r) {
+        return solutionAt(HEADER_SIZE + r * RECORD_SIZE);
+    }
+
+    /****
+     * Return the Solution whose record is at a given place in the solution file
+     */
+    private Solution solutionAt(int at) {
+        int[] pNos = new int[Board.CAPACITY];
+        int[] pos = new int[Board.CAPACITY];
+        for (int k = 0; k < Board.CAPACITY; k++) {
+            pNos[k] = records.get(at + 2 * k);
+            pos[k] = records.get(at + 2 * k + 1) & 0xFF;
+        }
+        return new Solution(pNos, pos, Board.CAPACITY);
+    }
+
+    /****
+     * Return the Solutions that use exactly a given multiset of Pieces
+     * 
+     * @param counts    The number of copies of each Piece, by Piece number
+     * @return          The Solutions' numbers (for get(), etc.)
+     */
+    public IntStream withMultiset(int[] counts) {
+        long key = multisetKey(counts);
+        int lo = 0;
+        int hi = nKeys - 1;
+        while (lo <= hi) {                                  // The multisets are in order
+            int mid = (lo + hi) >>> 1;
+            long k = index.getLong(keysAt + mid * KEY_SIZE);
+            if (k < key) {
+                lo = mid + 1;
+            } else if (k > key) {
+                hi = mid - 1;
+            } else {
+                int start = index.getInt(keysAt + mid * KEY_SIZE + 8);
+                return IntStream.range(start, start + index.getInt(keysAt + mid * KEY_SIZE + 12));
+            }
+        }
+        return IntStream.empty();
+    }
+
+    /****
+     * Return the Solutions that don't use a given Piece at all
+     * 
+     * @param pNo   The Piece's number
+     * @return      The Solutions' numbers (for get(), etc.)
+     */
+    public IntStream omitting(int pNo) {
+        return withCount(pNo, 0, 0);
+    }
+
+    /****
+     * Return the Solutions that use more than one copy of a given Piece
+     * 
+     * @param pNo   The Piece's number
+     * @return      The Solutions' numbers (for get(), etc.)
+     */
+    public IntStream repeating(int pNo) {
+        return withCount(pNo, 2, 15);
+    }
+
+    /****
+     * Return the Solutions that use between min and max copies of a given Piece. Only the 
+     * index's list of multisets is looked at, not the Solutions.
+     */
+    private IntStream withCount(int pNo, int min, int max) {
+        IntStream.Builder answer = IntStream.builder();
+        for (int k = 0; k < nKeys; k++) {
+            int n = (int)(index.getLong(keysAt + k * KEY_SIZE) >>> (4 * pNo)) & 0xF;
+            if (n >= min && n <= max) {
+                int start = index.getInt(keysAt + k * KEY_SIZE + 8);
+                int count = index.getInt(keysAt + k * KEY_SIZE + 12);
+                for (int i = start; i < start + count; i++) {
+                    answer.add(i);
+                }
+            }
+        }
+        return answer.build();
+    }
+
+    /****
+     * Nothing to do: the mappings go away when the SolutionStore is garbage collected.
+     */
+    @Override
+    public void close() {
+    }
+}
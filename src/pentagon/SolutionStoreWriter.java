@@ -0,0 +1,156 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the SolutionStoreWriter class, which appends Solutions to a solution
+ * file (see SolutionStore) as they're found.
+ * 
+ * =====
+ *
+ *  @file     SolutionStoreWriter.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+
+public final class SolutionStoreWriter implements SolutionListener, Closeable {
+    private final OutputStream out;                 // Where the records go, unbuffered so that each is 
+                                                    //   in the file as soon as append() returns
+    private final byte[] record;                    // Scratch for append()
+    private long nAppended;                         // The number of records written
+
+    /****
+     * Constructor. If the file's already there, what's written is added to the end of it.
+     * 
+     * @param path      The solution file
+     * @throws IOException If it can't be written or is there but isn't a solution file
+     */
+    public SolutionStoreWriter(Path path) throws IOException {
+        this(path, Long.MAX_VALUE);
+    }
+
+    /****
+     * Constructor for a file that may have more records than are wanted: only the first keep 
+     * of them are kept, and what's written is added after those. (A Checkpoint says how many 
+     * of the solutions in its file it accounts for.)
+     * 
+     * @param path      The solution file
+     * @param keep      The number of records to keep. Long.MAX_VALUE ==> all of them.
+     * @throws IOException If it can't be written, is there but isn't a solution file, or has 
+     *                  fewer than keep records
+     */
+    public SolutionStoreWriter(Path path, long keep) throws IOException {
+        boolean isNew = !Files.exists(path) || Files.size(path) == 0;
+        if (!isNew) {
+            byte[] header = new byte[SolutionStore.HEADER_SIZE];
+            try (InputStream in = Files.newInputStream(path)) {
+                in.readNBytes(header, 0, header.length);
+            }
+            SolutionStore.checkHeader(ByteBuffer.wrap(header), path);
+            long nRecords = (Files.size(path) - SolutionStore.HEADER_SIZE) / SolutionStore.RECORD_SIZE;
+            if (nRecords < keep && keep != Long.MAX_VALUE) {
+                throw new IOException(path + " has " + nRecords + " solutions, not " + keep + ".");
+            }
+            long length = SolutionStore.HEADER_SIZE + Math.min(nRecords, keep) * SolutionStore.RECORD_SIZE;
+            if (Files.size(path) != length) {       // A partly written record from a crash, or 
+                try (RandomAccessFile f = new RandomAccessFile(path.toFile(), "rw")) {
+                    f.setLength(length);            //   ones that aren't wanted
+                }
+            }
+        } else if (keep != 0 && keep != Long.MAX_VALUE) {
+            throw new IOException(path + " has no solutions, not " + keep + ".");
+        }
+        out = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (isNew) {
+            out.write(SolutionStore.header().array());
+        }
+        record = new byte[SolutionStore.RECORD_SIZE];
+    }
+
+    /****
+     * Add a Solution to the end of the file. It's written straight away, so a search that 
+     * dies loses nothing it found. It's safe to call this from more than one thread.
+     * 
+     * @param s     The Solution. It has to use exactly Board.CAPACITY Pieces.
+     * @throws IOException
+     */
+    public synchronized void append(Solution s) throws IOException {
+        if (s.getPieceCount() != Board.CAPACITY) {
+            throw new IllegalArgumentException("A stored solution has to have " + Board.CAPACITY + " pieces.");
+        }
+        for (int k = 0; k < Board.CAPACITY; k++) {
+            if (s.getPosition(k) > 0xFF) {
+                throw new IllegalArgumentException("A stored solution's positions have to fit in a byte.");
+            }
+            record[2 * k] = (byte)s.getPiece(k);
+            record[2 * k + 1] = (byte)s.getPosition(k);
+        }
+        out.write(record);
+        nAppended++;
+    }
+
+    /****
+     * Return the number of Solutions appended so far
+     * 
+     * @return      The number
+     */
+    public synchronized long getAppendedCount() {
+        return nAppended;
+    }
+
+    /****
+     * Append the Solution and keep searching.
+     */
+    @Override
+    public boolean solutionFound(Solution s) {
+        try {
+            append(s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,155 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the SolutionStream class, which turns a search that hands solutions to 
+ * a SolutionListener into a Stream of Solutions.
+ * 
+ * =====
+ *
+ *  @file     SolutionStream.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.*;
+
+final class SolutionStream {
+    private static final Object END = new Object();         // Marks the end of the solutions
+
+    /****
+     * Marks the end of the solutions of a search that failed, and says why
+     */
+    private static final class Failure {
+        final Throwable cause;                  // A RuntimeException or an Error
+
+        Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+
+    private SolutionStream() {
+    }
+
+    /****
+     * Return a Stream of the Solutions a search finds. The search runs on a thread of its 
+     * own and hands its Solutions over through a queue holding at most capacity of them; 
+     * when the queue is full, the search waits for the Stream's consumer to catch up. 
+     * Closing the Stream (e.g., by using it in a try-with-resources statement) stops the 
+     * search, so a consumer that only wants the first few solutions doesn't pay for the rest. 
+     * If the search throws, the Stream's consumer gets the exception once it has had the 
+     * solutions found before it.
+     * 
+     * @param search    The search. It's given the SolutionListener to report to.
+     * @param capacity  The maximum number of Solutions found but not yet consumed
+     * @return          The Stream
+     ****/
+    static Stream<Solution> of(Consumer<SolutionListener> search, int capacity) {
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(capacity);
+        AtomicBoolean closed = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            Object last = END;
+            try {
+                search.accept(s -> {
+                    try {
+                        queue.put(s);
+                        return !closed.get();
+                    } catch (InterruptedException e) {
+                        return false;
+                    }
+                });
+            } catch (RuntimeException | Error e) {
+                last = new Failure(e);
+            }
+            if (closed.get()) {
+                return;                             // Nobody's going to read it
+            }
+            try {
+                queue.put(last);
+            } catch (InterruptedException e) {
+                // Closed while waiting for room
+            }
+        }, "solution-stream");
+        producer.setDaemon(true);
+        producer.start();
+
+        Iterator<Solution> it = new Iterator<Solution>() {
+            private Object next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = queue.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        next = END;
+                    }
+                }
+                if (next instanceof Failure) {
+                    Throwable cause = ((Failure)next).cause;
+                    if (cause instanceof Error) {
+                        throw (Error)cause;
+                    }
+                    throw (RuntimeException)cause;
+                }
+                return next != END;
+            }
+
+            @Override
+            public Solution next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Solution answer = (Solution)next;
+                next = null;
+                return answer;
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                closed.set(true);
+                producer.interrupt();
+            });
+    }
+}
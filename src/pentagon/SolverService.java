@@ -0,0 +1,471 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the SolverService class, a small HTTP server that answers solve, count
+ * and solvable questions about sets of Pieces from one long-running JVM, remembering recent
+ * answers.
+ * 
+ * =====
+ *
+ *  @file     SolverService.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class SolverService implements AutoCloseable {
+    /****
+     * The questions are asked as HTTP GETs on the loopback interface:
+     * 
+     *      /solve?extras=AB            The solutions using the 16 Pieces plus an A and a B
+     *      /solve?pieces=ABC...PA      The solutions using Pieces from the (at least 16) named
+     *      /solve?...&limit=n          Just the first n of them (default: 100)
+     *      /count?...                  Just the number of them
+     *      /solvable?...               Just whether there are any ("true" or "false")
+     *      /stats                      How many questions have been answered, and how
+     * 
+     * Either way, what's asked about is a multiset of Pieces to fill the Board from, so the 
+     * answers are remembered by its SolutionStore.multisetKey(): "extras=A" and 
+     * "pieces=ABCDEFGHIJKLMNOPA" are the same question. The most recently asked 
+     * cacheSize multisets are remembered. A response says whether it came from there in its 
+     * X-Cache header ("hit" or "miss"). For /solve, only the solutions asked for are 
+     * remembered, so a later question that asks for more is a miss.
+     * 
+     * A question that takes longer than the time limit to work out is given up on, with a 503 
+     * (Service Unavailable) response. A question that doesn't make sense gets a 400 (Bad 
+     * Request) response.
+     * 
+     * Each request gets a thread of its own -- a virtual one when the JVM has them -- and a 
+     * BitsetSolver of its own. They all share Piece.CATALOG, which never changes once made.
+     ****/
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+    public static final int DEFAULT_SOLVE_LIMIT = 100;     // The most solutions /solve returns unless asked
+    public static final int MAX_SOLVE_LIMIT = 10_000;      //   and the most it can be asked for
+    public static final long DEFAULT_TIME_LIMIT_MS = 10_000;    // The longest any one search runs
+
+    private final HttpServer server;            // What takes the requests
+    private final ExecutorService executor;     // What runs them
+    private final Map<Long, Answer> cache;      // What's known about each recently asked multiset
+    private final SearchStats stats = new SearchStats();    // What all the searches counted
+    private volatile long timeLimitMs = DEFAULT_TIME_LIMIT_MS;  // How long a search can take
+    private long nRequests;                     // The number of questions answered
+    private long nHits;                         //   and how many of them from the cache
+
+    /****
+     * What's known about filling the Board from a multiset of Pieces. Whichever question was 
+     * asked, some of it may not have been worked out.
+     */
+    private static final class Answer {
+        List<Solution> solutions;               // The first solutions, or null if not found yet
+        boolean allSolutions;                   //   and whether they're all of them
+        long count = -1;                        // How many there are, or -1 if not known
+        Boolean solvable;                       // Whether there are any, or null if not known
+
+        /****
+         * @return  A copy of the Answer, safe to look at outside the lock
+         */
+        Answer copy() {
+            Answer answer = new Answer();
+            answer.merge(this);
+            return answer;
+        }
+
+        /****
+         * Add what another Answer knows to what this one does.
+         * 
+         * @param other     The other Answer
+         */
+        void merge(Answer other) {
+            if (other.solutions != null && (solutions == null || other.allSolutions || 
+                    (!allSolutions && other.solutions.size() > solutions.size()))) {
+                solutions = other.solutions;
+                allSolutions = other.allSolutions;
+            }
+            if (other.count >= 0) {
+                count = other.count;
+            }
+            if (other.solvable != null) {
+                solvable = other.solvable;
+            }
+        }
+
+        /****
+         * Return whether the Answer knows enough to answer a question
+         * 
+         * @param question  "solve", "count" or "solvable"
+         * @param limit     For "solve", how many solutions are wanted
+         * @return          true if it does
+         */
+        boolean answers(String question, int limit) {
+            return question.equals("solve") ? solutions != null && (allSolutions || solutions.size() >= limit) : 
+                question.equals("count") ? count >= 0 : solvable != null;
+        }
+    }
+
+    /****
+     * Thrown when a search runs out of time
+     */
+    private static final class GaveUp extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        GaveUp(long ms) {
+            super("Gave up after " + ms + " ms. Ask about fewer pieces, or fewer solutions.");
+        }
+    }
+
+    /****
+     * 
+     * Constructor. The service doesn't answer anything until start()ed.
+     * 
+     * @param port      The port to listen on, on the loopback interface. 0 ==> any free one.
+     * @param cacheSize The number of multisets of Pieces to remember the answers for
+     * @throws IOException if the port can't be had
+     * 
+     ****/
+    public SolverService(int port, int cacheSize) throws IOException {
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Answer> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        executor = newRequestExecutor();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /****
+     * Start answering questions. They're answered on the service's own threads, so this 
+     * returns right away.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /****
+     * @return  The port the service is listening on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /****
+     * Set how long the search for the answer to any one question can take before it's given 
+     * up on.
+     * 
+     * @param ms    The time in milliseconds. 0 ==> no limit.
+     */
+    public void setTimeLimit(long ms) {
+        timeLimitMs = ms;
+    }
+
+    /****
+     * @return  The SearchStats all the searches add what they count to
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /****
+     * Stop answering questions, letting any being answered finish first.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    /****
+     * Return an ExecutorService that runs each task on a virtual thread of its own if this 
+     * JVM has them (Java 21 on), or on a pooled platform thread if it doesn't.
+     * 
+     * @return  The ExecutorService
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /****
+     * Answer an HTTP request.
+     * 
+     * @param exchange  The request and where the response goes
+     * @throws IOException
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        int status = 200;
+        String body;
+        boolean hit = false;
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                status = 405;
+                body = "Only GET is supported.\n";
+            } else {
+                String what = exchange.getRequestURI().getPath();
+                if (what.equals("/stats")) {
+                    body = statsText();
+                } else if (what.equals("/solve") || what.equals("/count") || what.equals("/solvable")) {
+                    Map<String, String> params = parameters(exchange.getRequestURI().getQuery());
+                    int limit = limitOf(params, what.equals("/solve"));
+                    long key = SolutionStore.multisetKey(multisetOf(params));
+                    String[] answer = new String[1];
+                    hit = answer(what.substring(1), key, limit, answer);
+                    body = answer[0];
+                } else {
+                    status = 404;
+                    body = "Ask /solve, /count or /solvable with extras=... or pieces=..., or /stats.\n";
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            status = 400;
+            body = e.getMessage() + "\n";
+        } catch (GaveUp e) {
+            status = 503;
+            body = e.getMessage() + "\n";
+        } catch (RuntimeException e) {
+            status = 500;
+            body = "Something went wrong: " + e + "\n";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.getResponseHeaders().set("X-Cache", hit ? "hit" : "miss");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /****
+     * Return the parameters in a request's query string.
+     * 
+     * @param query     The query string, e.g., "extras=A&limit=5". null ==> none.
+     * @return          The value of each parameter, by name
+     * @throws IllegalArgumentException if the query doesn't make sense
+     */
+    static Map<String, String> parameters(String query) {
+        Map<String, String> answer = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return answer;
+        }
+        for (String param : query.split("&")) {
+            String[] nameValue = param.split("=", 2);
+            if (nameValue.length != 2 || answer.put(nameValue[0], nameValue[1]) != null) {
+                throw new IllegalArgumentException("Expected name=value once for each parameter, not \"" + query + "\".");
+            }
+            if (!nameValue[0].equals("extras") && !nameValue[0].equals("pieces") && !nameValue[0].equals("limit")) {
+                throw new IllegalArgumentException("Unknown parameter \"" + nameValue[0] + "\".");
+            }
+        }
+        return answer;
+    }
+
+    /****
+     * Return the multiset of Pieces a request asks about.
+     * 
+     * @param params    The request's parameters: "extras" (the 16 Pieces plus those named, 
+     *                  the default being none) or "pieces" (just those named, at least 
+     *                  Board.CAPACITY of them)
+     * @return          The number of copies of each Piece, by Piece number
+     * @throws IllegalArgumentException if the parameters don't make sense
+     */
+    static int[] multisetOf(Map<String, String> params) {
+        if (params.containsKey("extras") && params.containsKey("pieces")) {
+            throw new IllegalArgumentException("Ask with extras=names or pieces=names, not both.");
+        }
+        int[] answer = new int[Piece.N_PIECES];
+        String names = params.get("pieces");
+        if (names == null) {
+            Arrays.fill(answer, 1);
+            names = params.getOrDefault("extras", "");
+        }
+        for (char c : names.toCharArray()) {
+            if (c < 'A' || c >= 'A' + Piece.N_PIECES) {
+                throw new IllegalArgumentException("The pieces are named A to P; there's no piece '" + c + "'.");
+            }
+            answer[c - 'A']++;
+        }
+        int n = Arrays.stream(answer).sum();
+        if (n < Board.CAPACITY) {
+            throw new IllegalArgumentException("It takes at least " + Board.CAPACITY + " pieces to fill the board, not " + n + ".");
+        }
+        return answer;
+    }
+
+    /****
+     * Return the most solutions a request asks for.
+     * 
+     * @param params    The request's parameters: "limit", 1..MAX_SOLVE_LIMIT, if there is one
+     * @param solving   Whether the request is a /solve, the only one that can have a limit
+     * @return          The limit (DEFAULT_SOLVE_LIMIT if none was given)
+     * @throws IllegalArgumentException if the limit doesn't make sense
+     */
+    static int limitOf(Map<String, String> params, boolean solving) {
+        String limit = params.get("limit");
+        if (limit == null) {
+            return DEFAULT_SOLVE_LIMIT;
+        }
+        if (!solving) {
+            throw new IllegalArgumentException("Only /solve takes a limit.");
+        }
+        try {
+            int answer = Integer.parseInt(limit);
+            if (answer >= 1 && answer <= MAX_SOLVE_LIMIT) {
+                return answer;
+            }
+        } catch (NumberFormatException e) {
+            // Said below
+        }
+        throw new IllegalArgumentException("The limit has to be 1 to " + MAX_SOLVE_LIMIT + ", not \"" + limit + "\".");
+    }
+
+    /****
+     * Answer a question about a multiset of Pieces, from the cache if it's there.
+     * 
+     * @param question  "solve", "count" or "solvable"
+     * @param key       The multiset, as SolutionStore.multisetKey() has it
+     * @param limit     For "solve", the most solutions to give
+     * @param answer    Where to put the text of the answer: answer[0]
+     * @return          Whether it came from the cache
+     * @throws GaveUp if working it out took too long
+     */
+    private boolean answer(String question, long key, int limit, String[] answer) {
+        Answer known;
+        synchronized (this) {
+            nRequests++;
+            known = cache.get(key);
+            if (known != null && known.answers(question, limit)) {
+                nHits++;
+                known = known.copy();
+            } else {
+                known = null;
+            }
+        }
+        boolean hit = known != null;
+        if (!hit) {                         // (Two at once may both work it out: no harm done)
+            known = work(question, key, limit);
+            synchronized (this) {
+                cache.computeIfAbsent(key, k -> new Answer()).merge(known);
+            }
+        }
+        if (question.equals("solve")) {
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+            PrintStream out = new PrintStream(text, true, StandardCharsets.UTF_8);
+            SolutionListener printer = new SolutionPrinter(out);
+            int n = Math.min(limit, known.solutions.size());
+            known.solutions.subList(0, n).forEach(printer::solutionFound);
+            if (known.allSolutions && n == known.solutions.size()) {
+                out.printf("\n%d solutions.\n", n);
+            } else if (known.allSolutions) {
+                out.printf("\nThe first %d of %d solutions.\n", n, known.solutions.size());
+            } else {
+                out.printf("\nThe first %d solutions; there are more.\n", n);
+            }
+            answer[0] = text.toString(StandardCharsets.UTF_8);
+        } else if (question.equals("count")) {
+            answer[0] = known.count + "\n";
+        } else {
+            answer[0] = known.solvable + "\n";
+        }
+        return hit;
+    }
+
+    /****
+     * Work out the answer to a question about a multiset of Pieces: the first limit 
+     * solutions for "solve", how many there are for "count" and just whether there's one 
+     * for "solvable".
+     * 
+     * @param question  "solve", "count" or "solvable"
+     * @param key       The multiset, as SolutionStore.multisetKey() has it
+     * @param limit     For "solve", the most solutions to find
+     * @return          What was worked out
+     * @throws GaveUp if the search ran out of time
+     */
+    private Answer work(String question, long key, int limit) {
+        int[] counts = new int[Piece.N_PIECES];
+        for (int pNo = 0; pNo < Piece.N_PIECES; pNo++) {
+            counts[pNo] = (int)(key >>> (4 * pNo)) & 0xF;
+        }
+        BitsetSolver solver = new BitsetSolver();
+        solver.setStats(stats);
+        long ms = timeLimitMs;
+        solver.setTimeLimit(ms);
+        Answer answer = new Answer();
+        if (question.equals("solve")) {
+            List<Solution> found = new ArrayList<>();
+            solver.solveFor(counts, s -> {          // (One more than the limit says whether 
+                found.add(s);                       //   there are more)
+                return found.size() <= limit;
+            });
+            answer.allSolutions = found.size() <= limit;
+            answer.solutions = List.copyOf(found.subList(0, Math.min(limit, found.size())));
+            answer.count = answer.allSolutions ? found.size() : -1;
+            answer.solvable = !found.isEmpty();
+        } else if (question.equals("count")) {
+            answer.count = solver.solveFor(counts, null);
+            answer.solvable = answer.count > 0;
+        } else {
+            answer.solvable = solver.solveFor(counts, s -> false) > 0;
+        }
+        if (solver.isTimedOut()) {
+            throw new GaveUp(ms);
+        }
+        return answer;
+    }
+
+    /****
+     * @return  The text of the answer to /stats
+     */
+    private synchronized String statsText() {
+        return String.format("%d requests, %d answered from the cache, %d multisets remembered.\n" + 
+            "Searches visited %d nodes and found %d solutions.\n", 
+            nRequests, nHits, cache.size(), stats.getNodeCount(), stats.getSolutionCount());
+    }
+}
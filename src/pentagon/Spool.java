@@ -0,0 +1,338 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the Spool class: a directory through which a Coordinator hands out
+ * WorkUnits to Worker processes and gets their results back. Everything is done by creating and
+ * renaming files, so the processes can be on any machines that share the directory.
+ * 
+ * =====
+ *
+ *  @file     Spool.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+/****
+ * The layout of the directory:
+ * 
+ *  todo/n          WorkUnit n, waiting for a Worker
+ *  claimed/n@id    WorkUnit n, being solved by the Worker whose id is id
+ *  done/n          The result of WorkUnit n
+ *  workers/id      Rewritten every so often by the Worker whose id is id while it's alive
+ *  finished        There for as long as there's no more work coming
+ * 
+ * A Worker claims a unit by renaming it from todo/ to claimed/. Since a rename either 
+ * happens or doesn't, exactly one Worker gets each unit.
+ * 
+ * Whether a Worker is alive is judged only by the Coordinator's own clock: it notes when 
+ * it sees a Worker's heartbeat file change, so the machines' clocks needn't agree.
+ */
+public final class Spool {
+    private final Path dir;
+    private final Path todo;
+    private final Path claimed;
+    private final Path done;
+    private final Path workers;
+    private final Path finished;
+    private final Map<String, Beat> beats = new HashMap<>();  // The last heartbeat seen from each 
+                                                            //   Worker with a claim, by id
+    private long nBeats;                                    // The heartbeats this Spool has given
+
+    /****
+     * A Worker's heartbeat file as last seen, and when it was first seen that way
+     */
+    private static final class Beat {
+        final String seen;                      // Its time stamp and contents
+        final long at;                          // System.nanoTime() when first seen so
+
+        Beat(String seen, long at) {
+            this.seen = seen;
+            this.at = at;
+        }
+    }
+
+    /****
+     * A WorkUnit a Worker has claimed
+     */
+    public static final class Claim {
+        public final int seq;                   // The WorkUnit's number
+        public final WorkUnit unit;             //   and the WorkUnit itself
+
+        Claim(int seq, WorkUnit unit) {
+            this.seq = seq;
+            this.unit = unit;
+        }
+    }
+
+    /****
+     * Constructor. Make the directory and its subdirectories if need be.
+     * 
+     * @param dir   The directory
+     * @throws IOException
+     */
+    public Spool(Path dir) throws IOException {
+        this.dir = dir;
+        todo = Files.createDirectories(dir.resolve("todo"));
+        claimed = Files.createDirectories(dir.resolve("claimed"));
+        done = Files.createDirectories(dir.resolve("done"));
+        workers = Files.createDirectories(dir.resolve("workers"));
+        finished = dir.resolve("finished");
+    }
+
+    /****
+     * Return the directory
+     * 
+     * @return      Its path
+     */
+    public Path getDir() {
+        return dir;
+    }
+
+    /****
+     * Get rid of any units and results left from before and say there's work coming.
+     * 
+     * @throws IOException
+     */
+    public void clear() throws IOException {
+        for (Path d : new Path[] {todo, claimed, done}) {
+            try (Stream<Path> files = Files.list(d)) {
+                for (Path f : files.collect(Collectors.toList())) {
+                    Files.deleteIfExists(f);
+                }
+            }
+        }
+        Files.deleteIfExists(finished);
+    }
+
+    /****
+     * Put a WorkUnit in the spool for a Worker to claim.
+     * 
+     * @param seq   Its number, unique within the spool
+     * @param unit  The WorkUnit
+     * @throws IOException
+     */
+    public void submit(int seq, WorkUnit unit) throws IOException {
+        write(todo.resolve(name(seq)), unit.encode() + "\n");
+    }
+
+    /****
+     * Take a WorkUnit back out of the spool if no Worker has claimed it yet.
+     * 
+     * @param seq   Its number
+     * @throws IOException
+     */
+    public void cancel(int seq) throws IOException {
+        Files.deleteIfExists(todo.resolve(name(seq)));
+    }
+
+    /****
+     * Claim the lowest numbered WorkUnit waiting in the spool.
+     * 
+     * @param workerId  The id of the Worker claiming it
+     * @return          What was claimed, or null if there's nothing waiting
+     * @throws IOException
+     */
+    public Claim claim(String workerId) throws IOException {
+        List<Path> waiting;
+        try (Stream<Path> files = Files.list(todo)) {
+            waiting = files.filter(f -> !f.getFileName().toString().endsWith(".tmp"))
+                .sorted().collect(Collectors.toList());
+        }
+        for (Path f : waiting) {
+            Path to = claimed.resolve(f.getFileName() + "@" + workerId);
+            try {
+                Files.move(f, to, StandardCopyOption.ATOMIC_MOVE);
+            } catch (NoSuchFileException e) {
+                continue;                               // Someone else got it first
+            }
+            String line = new String(Files.readAllBytes(to), StandardCharsets.UTF_8);
+            return new Claim(Integer.parseInt(f.getFileName().toString()), WorkUnit.parse(line));
+        }
+        return null;
+    }
+
+    /****
+     * Hand in the result of a claimed WorkUnit.
+     * 
+     * @param seq       The WorkUnit's number
+     * @param workerId  The id of the Worker that claimed it
+     * @param result    The result
+     * @throws IOException
+     */
+    public void complete(int seq, String workerId, String result) throws IOException {
+        write(done.resolve(name(seq)), result);
+        Files.deleteIfExists(claimed.resolve(name(seq) + "@" + workerId));
+    }
+
+    /****
+     * Return the result of a WorkUnit, if it has been handed in.
+     * 
+     * @param seq   The WorkUnit's number
+     * @return      The result, or null if there isn't one yet
+     * @throws IOException
+     */
+    public String result(int seq) throws IOException {
+        try {
+            return new String(Files.readAllBytes(done.resolve(name(seq))), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /****
+     * Say that a Worker is still alive, by writing a new count into its heartbeat file. 
+     * The count changes even when the file system's time stamps are too coarse to.
+     * 
+     * @param workerId  The Worker's id
+     * @throws IOException
+     */
+    public synchronized void heartbeat(String workerId) throws IOException {
+        write(workers.resolve(workerId), ++nBeats + "\n");
+    }
+
+    /****
+     * Put the WorkUnits claimed by Workers that haven't said they're alive lately back in 
+     * the spool for someone else to claim. A Worker is taken to be dead once its heartbeat 
+     * file hasn't changed for timeoutMs, going by this process's clock, since the first call 
+     * that saw it that way. So the first call after a Worker claims its first unit never 
+     * puts it back. If a Worker thought to be dead turns out not to be, its result just 
+     * replaces the identical one from whoever redid the work.
+     * 
+     * @param timeoutMs     How long a Worker can be silent before it's taken to be dead
+     * @return              The number of WorkUnits put back
+     * @throws IOException
+     */
+    public synchronized int requeueDead(long timeoutMs) throws IOException {
+        long now = System.nanoTime();
+        List<Path> claims;
+        try (Stream<Path> files = Files.list(claimed)) {
+            claims = files.filter(f -> f.getFileName().toString().contains("@")).collect(Collectors.toList());
+        }
+        Set<String> claimers = new HashSet<>();
+        int answer = 0;
+        for (Path f : claims) {
+            String[] parts = f.getFileName().toString().split("@", 2);
+            claimers.add(parts[1]);
+            String seen = lookAt(workers.resolve(parts[1]));
+            Beat last = beats.get(parts[1]);
+            if (last == null || !last.seen.equals(seen)) {
+                beats.put(parts[1], last = new Beat(seen, now));
+            }
+            if (now - last.at > timeoutMs * 1_000_000) {
+                try {
+                    if (Files.exists(done.resolve(parts[0]))) {
+                        Files.delete(f);
+                    } else {
+                        Files.move(f, todo.resolve(parts[0]), StandardCopyOption.ATOMIC_MOVE);
+                        answer++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // The Worker finished it after all
+                }
+            }
+        }
+        beats.keySet().retainAll(claimers);
+        return answer;
+    }
+
+    /****
+     * Return a Worker's heartbeat file's time stamp and contents, as they are now: "" if 
+     * there's no such file.
+     */
+    private static String lookAt(Path beat) throws IOException {
+        try {
+            return Files.getLastModifiedTime(beat).toMillis() + " " + 
+                new String(Files.readAllBytes(beat), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return "";
+        }
+    }
+
+    /****
+     * Say whether more work is coming. Workers stop once there's none waiting and none coming.
+     * 
+     * @param on    true ==> no more work is coming
+     * @throws IOException
+     */
+    public void setFinished(boolean on) throws IOException {
+        if (on) {
+            write(finished, "");
+        } else {
+            Files.deleteIfExists(finished);
+        }
+    }
+
+    /****
+     * Return whether there's no more work coming.
+     * 
+     * @return      true if setFinished(true) was the last word
+     */
+    public boolean isFinished() {
+        return Files.exists(finished);
+    }
+
+    /****
+     * Return the name of the files for a WorkUnit. They're zero-padded so that sorting them 
+     * by name puts them in order.
+     */
+    private static String name(int seq) {
+        return String.format("%09d", seq);
+    }
+
+    /****
+     * Write a file so that nobody ever sees it partly written: write it under another name, 
+     * one no other process on any machine will pick, and then rename it.
+     */
+    private static void write(Path f, String contents) throws IOException {
+        Path tmp = f.resolveSibling(f.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.write(tmp, contents.getBytes(StandardCharsets.UTF_8));
+            Files.move(tmp, f, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);          // Don't leave it lying around
+            throw e;
+        }
+    }
+}
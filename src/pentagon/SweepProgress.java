@@ -0,0 +1,142 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the SweepProgress class, which reports how far a sweep has got and how
+ * long it has left, refining the TreeSizeEstimator's estimates as the real search goes.
+ * 
+ * =====
+ *
+ *  @file     SweepProgress.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.PrintStream;
+import java.util.*;
+
+public class SweepProgress implements SolutionListener {
+    /****
+     * As each combination finishes, the nodes its search actually visited are compared with 
+     * the estimate for it. The estimates for the combinations still to come are scaled by 
+     * the ratio of the two so far, and divided by the rate the search has actually been 
+     * going at, to say how long is left.
+     ****/
+    private final SolutionListener next;        // Who to pass everything on to
+    private final PrintStream out;              // Where to report progress
+    private final SearchStats stats;            // What the search counts its nodes in
+    private final double[] estimated;           // The estimated nodes of each combination of the sweep
+    private final double[] estimatedAfter;      // The total estimated for those after each one
+    private int nDone;                          // The number of combinations finished
+    private double estimatedDone;               // The total estimated for them
+    private long nodesDone;                     //   and the nodes they actually took
+    private final long startNodes;              // The node count when the sweep started
+    private final long startTime;               //   and the time (System.nanoTime())
+
+    /****
+     * Constructor. The sweep is taken to start now.
+     * 
+     * @param estimates The Estimates for all the combinations of the sweep, in order. (A 
+     *                  sweep of several sets of extras runs their combinations one after 
+     *                  another.)
+     * @param stats     The SearchStats the search counts its nodes in
+     * @param out       Where to report progress
+     * @param next      Who to pass the solutions and combinations on to
+     */
+    public SweepProgress(List<TreeSizeEstimator.Estimate> estimates, SearchStats stats, PrintStream out, 
+            SolutionListener next) {
+        this.next = next;
+        this.out = out;
+        this.stats = stats;
+        estimated = new double[estimates.size()];
+        estimatedAfter = new double[estimates.size()];
+        for (int i = estimates.size() - 1; i >= 0; i--) {
+            estimated[i] = estimates.get(i).nodes;
+            estimatedAfter[i] = i + 1 < estimated.length ? estimated[i + 1] + estimatedAfter[i + 1] : 0.0;
+        }
+        startNodes = stats.getNodeCount();
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public boolean solutionFound(Solution s) {
+        return next.solutionFound(s);
+    }
+
+    /****
+     * Note the combination is done and report how far the sweep has got.
+     */
+    @Override
+    public void combinationDone(Piece[] comb, boolean solved) {
+        next.combinationDone(comb, solved);
+        if (nDone >= estimated.length) {
+            return;
+        }
+        long nodes = stats.getNodeCount() - startNodes;
+        long took = nodes - nodesDone;
+        nodesDone = nodes;
+        estimatedDone += estimated[nDone];
+        double left = estimatedAfter[nDone] * (estimatedDone > 0 ? nodesDone / estimatedDone : 1.0);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        double rate = nodesDone / Math.max(seconds, 1e-9);
+        nDone++;
+        out.printf("[%d/%d] %d nodes (estimated %.0f); %.0f%% done, about %s to go.\n", nDone, estimated.length, 
+            took, estimated[nDone - 1], 100 * nodesDone / (nodesDone + left), 
+            TreeSizeEstimator.duration(rate > 0 ? left / rate : 0.0));
+    }
+
+    /****
+     * @return  The number of combinations finished so far
+     */
+    public int getDoneCount() {
+        return nDone;
+    }
+
+    /****
+     * Return the current estimate of the nodes the sweep has still to visit: the estimates 
+     * for the combinations to come, scaled by how the ones done so far compared.
+     * 
+     * @return      The number of nodes
+     */
+    public double getNodesLeft() {
+        if (nDone == 0) {
+            return estimatedAfter.length == 0 ? 0.0 : estimated[0] + estimatedAfter[0];
+        }
+        return estimatedAfter[nDone - 1] * (estimatedDone > 0 ? nodesDone / estimatedDone : 1.0);
+    }
+}
@@ -0,0 +1,295 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the Tiling class, which knows where in the tiling of the pentagons each
+ * of the Pieces can go, and so can work out all the positions of the Pieces on any Region.
+ * 
+ * =====
+ *
+ *  @file     Tiling.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+
+public final class Tiling {
+    /****
+     * Mapped onto rows and columns (see README.md), the tiling of the pentagons repeats every 
+     * PERIOD columns and every PERIOD rows. So whether a Piece can go at a place depends only 
+     * on its shape (see Piece) and on the column and row of the top left corner of the 
+     * shape's 3 x 3 box, each mod PERIOD. rules[][] lists, for each Piece, the shapes and 
+     * column and row remainders at which it's part of the tiling. Everything else about 
+     * where the Pieces go on a board follows from these and the board's shape.
+     ****/
+    public static final int PERIOD = 4;
+
+    // rule component selector ---------------.     0 => shape, 1 => x mod PERIOD, 2 => y mod PERIOD
+    // rule selector ----------------------.  |     0..number of rules for the Piece - 1
+    // piece selector ------------------.  |  |     0 => Piece A, 1 => Piece B, ... 15 => Piece P
+    //                                  |  |  |
+    private final static byte rules[ ][ ][ ] = {
+        {   // Piece A
+            {1, 2, 0},    // Normal I
+            {1, 0, 2},
+            {0, 3, 1},    // Face-up I
+            {0, 1, 3},
+            {1, 3, 3},    // Normal I
+            {0, 0, 0}     // Face-up I
+        },
+        {   // Piece B
+            {2, 3, 0},    // Upside down backwards L
+            {2, 0, 1},
+            {2, 1, 2},
+            {2, 2, 3},
+            {4, 1, 0},    // Backwards L
+            {4, 2, 1},
+            {4, 3, 2},
+            {4, 0, 3}
+        },
+        {   // Piece C
+            {3, 1, 0},    // Upside down L
+            {3, 0, 1},
+            {3, 3, 2},
+            {3, 2, 3},
+            {5, 3, 0},    // Normal L
+            {5, 2, 1},
+            {5, 1, 2},
+            {5, 0, 3}
+        },
+        {   // Piece D
+            {8, 1, 1},    // Face-up J
+            {8, 3, 3},
+            {13, 3, 1},   // Upside down backwards J
+            {13, 1, 3},
+            {6, 0, 1},    // Face-down J
+            {6, 2, 3},
+            {11, 3, 0},   // Backwards J
+            {11, 1, 2}
+        },
+        {   // Piece E
+            {1, 3, 0},    // Normal I
+            {1, 1, 2},
+            {0, 0, 1},    // Face-up I
+            {0, 2, 3},
+            {1, 2, 3},    // Normal I
+            {0, 1, 2}     // Face-up I
+        },
+        {   // Piece F
+            {2, 0, 0},    // Upside down backwards L
+            {2, 2, 2},
+            {4, 2, 0},    // Backwards L
+            {4, 0, 2}
+        },
+        {   // Piece G
+            {5, 0, 0},    // Normal L
+            {5, 2, 2},
+            {3, 2, 0},    // Upside down L
+            {3, 0, 2}
+        },
+        {   // Piece H
+            {2, 1, 0},    // Upside down backwards L
+            {2, 3, 2},
+            {2, 2, 1},
+            {2, 0, 3},
+            {4, 3, 0},    // Backwards L
+            {4, 1, 2},
+            {4, 0, 1},
+            {4, 2, 3}
+        },
+        {   // Piece I
+            {9, 2, 0},    // Upside down J
+            {9, 0, 2},
+            {10, 3, 0},   // Face-up backwards J
+            {10, 1, 2},
+            {12, 0, 0},   // Face-down backwards J
+            {12, 2, 2},
+            {7, 0, 1},    // Normal J
+            {7, 2, 3}
+        },
+        {   // Piece J
+            {5, 1, 1},    // Normal L
+            {5, 3, 3},
+            {3, 3, 1},    // Upside down L
+            {3, 1, 3}
+        },
+        {   // Piece K
+            {4, 1, 1},    // Backwards L
+            {4, 3, 3},
+            {2, 3, 1},    // Upside down backwards L
+            {2, 1, 3}
+        },
+        {   // Piece L
+            {0, 1, 0},    // Face-up I
+            {0, 2, 1},
+            {0, 3, 2},
+            {0, 0, 3},
+            {1, 1, 0},    // Normal I
+            {1, 2, 1},
+            {1, 3, 2},
+            {1, 0, 3}
+        },
+        {   // Piece M
+            {13, 1, 1},   // Upside down backwards J
+            {13, 3, 3},
+            {8, 3, 1},    // Face-up J
+            {8, 1, 3},
+            {11, 1, 0},   // Backwards J
+            {11, 3, 2},
+            {6, 2, 1},    // Face-down J
+            {6, 0, 3}
+        },
+        {   // Piece N
+            {0, 2, 0},    // Face-up I
+            {0, 0, 2},
+            {1, 3, 1},    // Normal I
+            {1, 1, 3},
+            {0, 1, 1},    // Face-up I
+            {0, 3, 3},
+            {1, 0, 0},    // Normal I
+            {1, 2, 2}
+        },
+        {   // Piece O
+            {12, 2, 0},   // Face-down backwards J
+            {12, 0, 2},
+            {7, 2, 1},    // Normal J
+            {7, 0, 3},
+            {9, 0, 0},    // Upside down J
+            {9, 2, 2},
+            {10, 1, 0},   // Face-up backwards J
+            {10, 3, 2}
+        },
+        {   // Piece P
+            {5, 1, 0},    // Normal L
+            {5, 0, 1},
+            {5, 3, 2},
+            {5, 2, 3},
+            {3, 3, 0},    // Upside down L
+            {3, 2, 1},
+            {3, 1, 2},
+            {3, 0, 3}
+        }
+
+    };
+
+    /****
+     * Constructor. There's nothing to make; everything here is static.
+     ****/
+    private Tiling() {
+    }
+
+    /****
+     * Work out where each of the Pieces can go on a Region (see positionsFor()).
+     * 
+     * @param region    The Region, of at most 64 cells
+     * @return          The PieceCatalog for the Region. Its cells are numbered across the 
+     *                  Region's bounding box (y * width + x).
+     */
+    public static PieceCatalog catalogFor(Region region) {
+        return new PieceCatalog(region.getWidth(), region.getHeight(), positionsFor(region));
+    }
+
+    /****
+     * Work out where each of the Pieces can go on a Region: at every place in the Region 
+     * whose remainders match one of the Piece's rules and where the shape's three cells are 
+     * all in the Region. The positions of each Piece are in the order of its rules and, for 
+     * each rule, in cell order.
+     * 
+     * @param region    The Region, of any size
+     * @return          The cells of each position of each Piece, three per position, the 
+     *                  way PieceCatalog's constructor takes them. They're numbered across the 
+     *                  Region's bounding box (y * width + x).
+     */
+    static int[][] positionsFor(Region region) {
+        int width = region.getWidth();
+        int height = region.getHeight();
+        int[][] cells = new int[rules.length][];
+        for (int pNo = 0; pNo < rules.length; pNo++) {
+            List<Integer> found = new ArrayList<>();
+            for (byte[] rule : rules[pNo]) {
+                int[][] shape = Piece.shapeCells(rule[0]);
+                for (int y = 0; y < height; y++) {
+                    for (int x = 0; x < width; x++) {
+                        if (Math.floorMod(x + region.getOriginX(), PERIOD) != rule[1] || 
+                            Math.floorMod(y + region.getOriginY(), PERIOD) != rule[2]) {
+                            continue;
+                        }
+                        boolean fits = true;
+                        for (int[] c : shape) {
+                            fits &= region.contains(x + c[0], y + c[1]);
+                        }
+                        if (fits) {
+                            for (int[] c : shape) {
+                                found.add((y + c[1]) * width + x + c[0]);
+                            }
+                        }
+                    }
+                }
+            }
+            cells[pNo] = found.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return cells;
+    }
+
+    /****
+     * Return a fingerprint of the rules and the shapes they refer to, which changes if 
+     * either does. (See CatalogCache.)
+     * 
+     * @param h     The fingerprint so far (FNV-1a, 64 bits)
+     * @return      The fingerprint including the rules and shapes
+     */
+    static long fingerprint(long h) {
+        h = CatalogCache.mix(h, PERIOD);
+        for (byte[][] pieceRules : rules) {
+            h = CatalogCache.mix(h, pieceRules.length);
+            for (byte[] rule : pieceRules) {
+                for (byte b : rule) {
+                    h = CatalogCache.mix(h, b);
+                }
+            }
+        }
+        for (int s = 0; s < Piece.shapeCount(); s++) {
+            for (int[] c : Piece.shapeCells(s)) {
+                h = CatalogCache.mix(h, c[0]);
+                h = CatalogCache.mix(h, c[1]);
+            }
+        }
+        return h;
+    }
+}
@@ -0,0 +1,227 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the TranspositionTable class, which remembers how many ways there are
+ * to finish filling the Board from states the cell-by-cell search has already been through.
+ * 
+ * =====
+ *
+ *  @file     TranspositionTable.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.Arrays;
+
+/****
+ * A fixed-size cache of what Board's cell-by-cell search has learned: for a state of the search 
+ * (the cells already covered and the multiset of Pieces still available), the number of ways 
+ * there are to finish filling the Board, zero meaning it can't be done. Different paths 
+ * through the search often lead to the same state, e.g., when two Pieces can cover the same 
+ * cells in two ways, or when the search for one extra Piece has used up both copies of it and 
+ * so is left with the same Pieces as the search for another extra Piece at the same point. 
+ * The table lets the second visit skip the work.
+ * 
+ * The table never grows past the memory budget it's made with. Entries live in buckets of 
+ * BUCKET slots chosen by hashing the key. When a bucket is full, the entry that took the 
+ * least work to find is the one that's dropped, since it's the cheapest to find again.
+ * 
+ * A TranspositionTable belongs to one thread at a time. It can be kept across searches (e.g., 
+ * the searches for each extra Piece) as long as they're all on the same size of Board.
+ ****/
+public final class TranspositionTable {
+    public static final int ENTRY_BYTES = 4 * 8;            // The memory each entry takes
+    private static final int BUCKET = 4;                    // The slots a key can go in
+
+    private final long[] table;                 // The entries, one after the other, each the key 
+                                                //   (the covered cells, then the available Pieces, 
+                                                //   4 bits per Piece), the number of ways to fill 
+                                                //   the rest of the Board, and the nodes it took to 
+                                                //   find out (0 ==> slot is empty). A bucket's 
+                                                //   entries are side by side, so a probe() touches 
+                                                //   just a couple of cache lines.
+    private final int mask;                     // The index of the first slot of the last bucket
+    private long hits;                          // probe()s that found their key
+    private long misses;                        //   and that didn't
+    private long stores;                        // Entries put in the table
+    private long evictions;                     //   and how many of them pushed another one out
+    private int nEntries;                       // The slots in use
+
+    /****
+     * Make an empty TranspositionTable taking at most budget bytes.
+     * 
+     * @param budget    The most memory the table may use, in bytes. It uses the largest power 
+     *                  of two number of entries that fits.
+     * @throws IllegalArgumentException if the budget won't hold a single bucket
+     */
+    public TranspositionTable(long budget) {
+        long n = Long.highestOneBit(Math.min(budget / ENTRY_BYTES, 1L << 28));
+        if (n < BUCKET) {
+            throw new IllegalArgumentException("A TranspositionTable needs at least " + 
+                BUCKET * ENTRY_BYTES + " bytes, not " + budget + ".");
+        }
+        table = new long[(int)n * 4];
+        mask = (int)n - BUCKET;
+    }
+
+    /****
+     * Return the first slot of the bucket for a key.
+     * 
+     * @param cells     The covered cells
+     * @param pieces    The available Pieces, 4 bits per Piece number
+     * @return          The slot
+     */
+    private int bucket(long cells, long pieces) {
+        long h = cells * 0x9E3779B97F4A7C15L ^ pieces * 0xC2B2AE3D27D4EB4FL;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 32;
+        return (int)h & mask;
+    }
+
+    /****
+     * Look up the number of ways to finish filling the Board from a state.
+     * 
+     * @param cells     The covered cells
+     * @param pieces    The available Pieces, 4 bits per Piece number (see Board)
+     * @return          The number of ways. -1 ==> not known.
+     */
+    public long probe(long cells, long pieces) {
+        int b = bucket(cells, pieces) * 4;
+        for (int i = b; i < b + BUCKET * 4; i += 4) {
+            if (table[i] == cells && table[i + 1] == pieces && table[i + 3] != 0) {
+                hits++;
+                return table[i + 2];
+            }
+        }
+        misses++;
+        return -1;
+    }
+
+    /****
+     * Remember the number of ways to finish filling the Board from a state. If the state's 
+     * bucket is full, the entry that took the least work to find makes way for it.
+     * 
+     * @param cells     The covered cells
+     * @param pieces    The available Pieces, 4 bits per Piece number (see Board)
+     * @param n         The number of ways to finish filling the Board from there
+     * @param nodes     The number of nodes it took to work that out
+     */
+    public void store(long cells, long pieces, long n, long nodes) {
+        int b = bucket(cells, pieces) * 4;
+        int victim = b;
+        for (int i = b; i < b + BUCKET * 4; i += 4) {
+            if (table[i + 3] == 0 || (table[i] == cells && table[i + 1] == pieces)) {
+                victim = i;
+                break;
+            }
+            if (table[i + 3] < table[victim + 3]) {
+                victim = i;
+            }
+        }
+        if (table[victim + 3] == 0) {
+            nEntries++;
+        } else if (table[victim] != cells || table[victim + 1] != pieces) {
+            evictions++;
+        }
+        table[victim] = cells;
+        table[victim + 1] = pieces;
+        table[victim + 2] = n;
+        table[victim + 3] = Math.max(1, nodes);
+        stores++;
+    }
+
+    /****
+     * Forget everything, keeping the counts of what the table has done.
+     */
+    public void clear() {
+        Arrays.fill(table, 0L);
+        nEntries = 0;
+    }
+
+    /****
+     * @return  The number of entries the table can hold
+     */
+    public int capacity() {
+        return table.length / 4;
+    }
+
+    /****
+     * @return  The number of entries in the table
+     */
+    public int size() {
+        return nEntries;
+    }
+
+    /****
+     * @return  The number of probe()s that found what they were looking for
+     */
+    public long getHitCount() {
+        return hits;
+    }
+
+    /****
+     * @return  The number of probe()s that didn't
+     */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /****
+     * @return  The number of entries stored
+     */
+    public long getStoreCount() {
+        return stores;
+    }
+
+    /****
+     * @return  The number of entries dropped to make room for another
+     */
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        long probes = hits + misses;
+        return String.format("%d hits and %d misses (%.1f%% hit), %d stored, %d evicted, %d of %d entries (%d MB) in use", 
+            hits, misses, probes == 0 ? 0.0 : 100.0 * hits / probes, stores, evictions, 
+            nEntries, capacity(), (long)capacity() * ENTRY_BYTES >> 20);
+    }
+}
@@ -0,0 +1,248 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the TreeSizeEstimator class, which estimates how big the backtracking
+ * search for a set of extra Pieces will be, and how long it will take, before running it.
+ * 
+ * =====
+ *
+ *  @file     TreeSizeEstimator.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.PrintStream;
+import java.util.*;
+
+public class TreeSizeEstimator {
+    /****
+     * The estimates come from random probes of the search tree (see Board.estimateNodes()). 
+     * A thousand probes of a combination take a few tens of milliseconds and have usually 
+     * come within a few percent of the number of nodes the search actually visits.
+     ****/
+    public static final int DEFAULT_PROBES = 1000;
+    private static final long RATE_SLICE_NS = 250_000_000;     // How long measureRate() times at a time
+
+    private final Board board = new Board();    // What does the probing
+    private final Random random;                // Where the probes' choices come from
+    private final int probes;                   // How many probes to make of each combination
+
+    /****
+     * The estimated size of the search for one combination of Pieces.
+     */
+    public static final class Estimate {
+        public final Piece[] set;               // The combination
+        public final double nodes;              // The estimated nodes in its search tree
+        public final double error;              //   and the standard error of that
+
+        Estimate(Piece[] set, double nodes, double error) {
+            this.set = set;
+            this.nodes = nodes;
+            this.error = error;
+        }
+    }
+
+    /****
+     * 
+     * Constructor
+     * 
+     * @param probes    The number of probes to make of each combination
+     * @param seed      The seed for the probes' random choices
+     * 
+     ****/
+    public TreeSizeEstimator(int probes, long seed) {
+        this.probes = probes;
+        random = new Random(seed);
+    }
+
+    /****
+     * Have the probes allow for the dead region check, or not (see 
+     * Board.setDeadRegionPruning()). They should match the search being estimated.
+     * 
+     * @param on    true if the search checks, false if not
+     */
+    public void setDeadRegionPruning(boolean on) {
+        board.setDeadRegionPruning(on);
+    }
+
+    /****
+     * Estimate the number of nodes Board.solveForSet(set) will visit.
+     * 
+     * @param set   The combination of Pieces
+     * @return      The Estimate
+     */
+    public Estimate estimate(Piece[] set) {
+        double sum = 0.0;
+        double sumSquares = 0.0;
+        for (int i = 0; i < probes; i++) {
+            double n = board.estimateNodes(set, random);
+            sum += n;
+            sumSquares += n * n;
+        }
+        double mean = sum / probes;
+        double variance = probes < 2 ? 0.0 : Math.max(0.0, (sumSquares - sum * mean) / (probes - 1));
+        return new Estimate(set, mean, Math.sqrt(variance / probes));
+    }
+
+    /****
+     * Estimate the size of each of the searches Board.solve(extras) will do, one for each 
+     * combination of Pieces it doesn't skip.
+     * 
+     * @param extras    The numbers of the Pieces to repeat. null ==> Don't repeat any.
+     * @return          The Estimates, in the order Board.solve() does the combinations
+     */
+    public List<Estimate> estimate(int[] extras) {
+        Piece[] pieces = Piece.makePieces(extras);
+        List<Estimate> answer = new ArrayList<>();
+        for (int[] comb : Board.combinations(pieces.length)) {
+            Piece[] set = new Piece[comb.length];
+            for (int i = 0; i < comb.length; i++) {
+                set[i] = pieces[comb[i]];
+            }
+            if (!Board.repeatsCombination(pieces, set)) {
+                answer.add(estimate(set));
+            }
+        }
+        return answer;
+    }
+
+    /****
+     * Return the total of some Estimates' nodes.
+     * 
+     * @param estimates     The Estimates
+     * @return              The total
+     */
+    public static double totalNodes(List<Estimate> estimates) {
+        return estimates.stream().mapToDouble(e -> e.nodes).sum();
+    }
+
+    /****
+     * Return the standard error of the total of some Estimates' nodes. (The probes of each 
+     * are independent, so it's the square root of the sum of the squares.)
+     * 
+     * @param estimates     The Estimates
+     * @return              The standard error
+     */
+    public static double totalError(List<Estimate> estimates) {
+        return Math.sqrt(estimates.stream().mapToDouble(e -> e.error * e.error).sum());
+    }
+
+    /****
+     * Measure how many nodes a second Board.solveForSet() visits here by running it, a 
+     * first Piece position at a time, on the combinations of the sweep for extra Piece A. 
+     * It starts out slow while it's being compiled, so it's timed a quarter of a second at a 
+     * time until two in a row agree to within 5%.
+     * 
+     * @param millis    The longest to keep at it for
+     * @return          The nodes per second over the last quarter second
+     */
+    public static double measureRate(long millis) {
+        Board board = new Board();
+        SearchStats stats = new SearchStats();
+        board.setStats(stats);
+        long stop = System.nanoTime() + millis * 1_000_000;
+        long sliceStart = System.nanoTime();
+        long sliceNodes = 0;
+        double rate = 0.0;
+        double lastRate = -1.0;
+        Piece[] pieces = Piece.makePieces(new int[] {Piece.A});
+        List<int[]> combs = Board.combinations(pieces.length);
+        for (int c = 0; ; c = (c + 1) % combs.size()) {
+            Piece[] set = new Piece[combs.get(c).length];
+            for (int i = 0; i < set.length; i++) {
+                set[i] = pieces[combs.get(c)[i]];
+            }
+            for (int pos = 0; pos < Piece.positionsFor(set[0].pNum); pos++) {
+                board.solveForSet(set, pos, s -> true);
+                long now = System.nanoTime();
+                if (now - sliceStart >= RATE_SLICE_NS) {
+                    rate = (stats.getNodeCount() - sliceNodes) * 1e9 / (now - sliceStart);
+                    if (Math.abs(rate - lastRate) < 0.05 * rate || now - stop >= 0) {
+                        return rate;
+                    }
+                    lastRate = rate;
+                    sliceStart = now;
+                    sliceNodes = stats.getNodeCount();
+                }
+            }
+        }
+    }
+
+    /****
+     * Return a number of seconds the way people like to read them, e.g., "3 h 25 m".
+     * 
+     * @param seconds   The number of seconds
+     * @return          The text
+     */
+    public static String duration(double seconds) {
+        if (seconds < 60) {
+            return String.format("%.1f s", seconds);
+        }
+        long s = Math.round(seconds);
+        if (s < 3600) {
+            return String.format("%d m %d s", s / 60, s % 60);
+        }
+        if (s < 86400) {
+            return String.format("%d h %d m", s / 3600, s / 60 % 60);
+        }
+        return String.format("%d d %d h", s / 86400, s / 3600 % 24);
+    }
+
+    /****
+     * Print a table of the Estimates for a sweep: a line for each combination and a total.
+     * 
+     * @param out       Where to print it
+     * @param estimates The Estimates, as estimate(extras) returns them
+     * @param rate      The nodes per second the search manages (see measureRate())
+     */
+    public static void printTable(PrintStream out, List<Estimate> estimates, double rate) {
+        out.printf("%-18s %14s %8s %12s\n", "Combination", "Nodes", "+/-", "Time");
+        for (Estimate e : estimates) {
+            StringBuilder names = new StringBuilder();
+            for (Piece p : e.set) {
+                names.append(p.pName);
+            }
+            out.printf("%-18s %14.0f %7.1f%% %12s\n", names, e.nodes, 100 * e.error / Math.max(e.nodes, 1), 
+                duration(e.nodes / rate));
+        }
+        double total = totalNodes(estimates);
+        out.printf("%-18s %14.0f %7.1f%% %12s\n", "Total", total, 100 * totalError(estimates) / Math.max(total, 1), 
+            duration(total / rate));
+    }
+}
@@ -0,0 +1,257 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the WideBoardSolver class, which fills Regions too big for a single long
+ * (e.g., a 16 x 12 board with four sets of Pieces) with multi-word occupancy sets.
+ * 
+ * =====
+ *
+ *  @file     WideBoardSolver.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+public class WideBoardSolver {
+    /****
+     * The occupancy of the Region is an array of longs, cell n being bit n % 64 of word 
+     * n / 64, with the cells outside the Region (and past its last cell) marked as occupied 
+     * to start with. The search fills the lowest numbered empty cell next, using only the 
+     * placements whose lowest cell that is. The words below the one that cell is in are 
+     * known to be full, so finding the next empty cell starts there and skips full words a 
+     * word at a time.
+     * 
+     * The three cells of a Piece are within a 3 x 3 box, so they're at most 2 * width + 2 
+     * cells from the lowest one. With width <= Region.MAX_WIDTH, that's at most three 
+     * words, starting with the lowest cell's. So each placement is its lowest cell plus 
+     * a mask for each of those three words, and placing one is at most three ANDs, the 
+     * second and third usually skipped.
+     ****/
+    private static final int SPAN = 3;          // The words a placement can touch
+
+    private final Region region;                // The Region being filled
+    private final int words;                    // The longs in the occupancy
+    private final long[] empty;                 // The occupancy of the empty Region
+    private final long[] occupied;              // The occupancy as the search goes (padded by 
+                                                //   SPAN - 1 words, so no bounds checks)
+    private final int[] start;                  // The placements whose lowest cell is n are 
+                                                //   start[n] .. start[n + 1] - 1
+    private final int[] piece;                  // The Piece of each placement,
+    private final int[] lowestCell;             //   its lowest cell
+    private final long[] masks;                 //   and its SPAN masks, from its lowest cell's word
+    private final int[] copies = new int[Piece.N_PIECES];  // The copies of each Piece left
+    private final int[] chosen;                 // The placement made at each depth
+    private Predicate<int[]> listener;          // Who to tell about each layout (null ==> nobody)
+    private long limit;                         // The most layouts to find
+    private long nFound;                        //   and how many have been found
+    private boolean stopped;                    // The listener asked to stop, or we hit limit
+    private long nodes;                         // The placements made so far
+
+    /****
+     * 
+     * Constructor
+     * 
+     * @param region    The Region to fill. It can be any size (see Region.MAX_CELLS).
+     * 
+     ****/
+    public WideBoardSolver(Region region) {
+        this.region = region;
+        int nCells = region.getWidth() * region.getHeight();
+        words = (nCells + Long.SIZE - 1) / Long.SIZE;
+        empty = new long[words];
+        long[] cells = region.getCellWords();
+        for (int w = 0; w < words; w++) {
+            empty[w] = ~cells[w];
+        }
+        occupied = new long[words + SPAN - 1];
+        int[][] positions = Tiling.positionsFor(region);
+        int nPlacements = 0;
+        for (int[] p : positions) {
+            nPlacements += p.length / 3;
+        }
+        int[] pieceOf = new int[nPlacements];
+        int[][] cellsOf = new int[nPlacements][];
+        Integer[] sorted = new Integer[nPlacements];        // (By lowest cell, keeping each 
+        int i = 0;                                          //   cell's in Piece order)
+        for (int pNo = 0; pNo < positions.length; pNo++) {
+            for (int pos = 0; pos < positions[pNo].length / 3; pos++) {
+                pieceOf[i] = pNo;
+                cellsOf[i] = Arrays.copyOfRange(positions[pNo], 3 * pos, 3 * pos + 3);
+                Arrays.sort(cellsOf[i]);
+                sorted[i] = i++;
+            }
+        }
+        Arrays.sort(sorted, Comparator.comparingInt(k -> cellsOf[k][0]));
+        start = new int[nCells + 1];
+        piece = new int[nPlacements];
+        lowestCell = new int[nPlacements];
+        masks = new long[SPAN * nPlacements];
+        for (int k = 0; k < nPlacements; k++) {
+            int[] c = cellsOf[sorted[k]];
+            piece[k] = pieceOf[sorted[k]];
+            lowestCell[k] = c[0];
+            for (int n : c) {
+                masks[SPAN * k + (n >> 6) - (c[0] >> 6)] |= 1L << n;
+            }
+            start[c[0] + 1]++;
+        }
+        for (int n = 0; n < nCells; n++) {
+            start[n + 1] += start[n];
+        }
+        chosen = new int[region.getCellCount() / 3];
+    }
+
+    /****
+     * Find the ways to fill the Region using at most counts[pNo] copies of each Piece pNo.
+     * 
+     * @param counts    The number of copies of each Piece there are, by Piece number
+     * @param limit     The most to find
+     * @param listener  Who to tell about each: it's given the number of the Piece covering 
+     *                  each cell of the bounding box (-1 for cells outside the Region). If 
+     *                  it returns false, the search stops there. null ==> just count them.
+     * @return          The number found
+     */
+    public long solve(int[] counts, long limit, Predicate<int[]> listener) {
+        System.arraycopy(counts, 0, copies, 0, Piece.N_PIECES);
+        System.arraycopy(empty, 0, occupied, 0, words);
+        this.listener = listener;
+        this.limit = limit;
+        nFound = 0;
+        stopped = limit <= 0;
+        if (region.getCellCount() % 3 == 0 && !stopped) {
+            search(0, 0);
+        }
+        return nFound;
+    }
+
+    /****
+     * Return the number of placements made by the searches so far
+     * 
+     * @return      The number of nodes
+     */
+    public long getNodeCount() {
+        return nodes;
+    }
+
+    /****
+     * Fill the lowest numbered empty cell in each way it can be and, for each, go on to 
+     * fill the rest of the Region.
+     * 
+     * @param depth     The number of Pieces placed
+     * @param w         The word to start looking for an empty cell in: all before it are full
+     */
+    private void search(int depth, int w) {
+        while (w < words && occupied[w] == -1L) {
+            w++;
+        }
+        if (w == words) {
+            reportLayout(depth);
+            return;
+        }
+        int cell = (w << 6) + Long.numberOfTrailingZeros(~occupied[w]);
+        for (int i = start[cell]; i < start[cell + 1] && !stopped; i++) {
+            int pNo = piece[i];
+            long m0 = masks[SPAN * i];
+            long m1 = masks[SPAN * i + 1];
+            long m2 = masks[SPAN * i + 2];
+            if (copies[pNo] == 0 || (occupied[w] & m0) != 0L || (occupied[w + 1] & m1) != 0L || 
+                    (occupied[w + 2] & m2) != 0L) {
+                continue;
+            }
+            nodes++;
+            copies[pNo]--;
+            occupied[w] |= m0;
+            occupied[w + 1] |= m1;
+            occupied[w + 2] |= m2;
+            chosen[depth] = i;
+            search(depth + 1, w);
+            occupied[w] &= ~m0;
+            occupied[w + 1] &= ~m1;
+            occupied[w + 2] &= ~m2;
+            copies[pNo]++;
+        }
+    }
+
+    /****
+     * Count the layout just found and, if anyone's listening, tell them which Piece covers 
+     * each cell.
+     * 
+     * @param depth     The number of Pieces placed
+     */
+    private void reportLayout(int depth) {
+        nFound++;
+        if (listener != null) {
+            int[] pieceAt = new int[region.getWidth() * region.getHeight()];
+            Arrays.fill(pieceAt, -1);
+            for (int d = 0; d < depth; d++) {
+                int i = chosen[d];
+                int base = lowestCell[i] >> 6;
+                for (int k = 0; k < SPAN; k++) {
+                    for (long m = masks[SPAN * i + k]; m != 0L; m &= m - 1) {
+                        pieceAt[((base + k) << 6) + Long.numberOfTrailingZeros(m)] = piece[i];
+                    }
+                }
+            }
+            stopped = !listener.test(pieceAt);
+        }
+        stopped |= nFound >= limit;
+    }
+
+    /****
+     * Draw a layout the way the README draws solutions: the names of the Pieces, a row of 
+     * cells to a line, with "." for the cells outside the Region.
+     * 
+     * @param region    The Region
+     * @param pieceAt   The number of the Piece covering each cell of its bounding box
+     * @return          The drawing
+     */
+    public static String draw(Region region, int[] pieceAt) {
+        StringBuilder answer = new StringBuilder();
+        for (int y = 0; y < region.getHeight(); y++) {
+            for (int x = 0; x < region.getWidth(); x++) {
+                int p = pieceAt[y * region.getWidth() + x];
+                answer.append(p < 0 ? '.' : (char)('A' + p));
+            }
+            answer.append('\n');
+        }
+        return answer.toString();
+    }
+}
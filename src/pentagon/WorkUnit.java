@@ -0,0 +1,193 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the WorkUnit class: one independent piece of the search Board.solve()
+ * does, namely one position of the first Piece of one combination of Pieces, in a form that can
+ * be handed to another process.
+ * 
+ * =====
+ *
+ *  @file     WorkUnit.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.util.*;
+
+public final class WorkUnit {
+    private final int[] extras;         // The extra Pieces; null ==> none
+    private final int combination;      // The index of the combination, in the order Board.solve() does them
+    private final int firstPos;         // The position of the combination's first Piece
+
+    /****
+     * Constructor
+     * 
+     * @param extras        The numbers of the extra Pieces; null ==> none
+     * @param combination   The index of the combination of Pieces in the order Board.solve() 
+     *                      goes through them (see Board.combinations())
+     * @param firstPos      The position of the first Piece of the combination
+     */
+    public WorkUnit(int[] extras, int combination, int firstPos) {
+        this.extras = extras == null ? null : extras.clone();
+        this.combination = combination;
+        this.firstPos = firstPos;
+    }
+
+    /****
+     * Return all the WorkUnits of Board.solve(extras, ...) in the order it does them. 
+     * Combinations Board.solve() would skip as repeats aren't included. Solving them in turn 
+     * and putting the results together in this order gives what Board.solve() would find, 
+     * in the same order.
+     * 
+     * @param extras    The numbers of the extra Pieces; null ==> none
+     * @return          The WorkUnits
+     */
+    public static List<WorkUnit> split(int[] extras) {
+        List<WorkUnit> answer = new ArrayList<>();
+        Piece[] pieces = Piece.makePieces(extras);
+        List<int[]> combs = Board.combinations(pieces.length);
+        for (int c = 0; c < combs.size(); c++) {
+            Piece[] set = select(pieces, combs.get(c));
+            if (!Board.repeatsCombination(pieces, set)) {
+                for (int pos = 0; pos < Piece.positionsFor(set[0].pNum); pos++) {
+                    answer.add(new WorkUnit(extras, c, pos));
+                }
+            }
+        }
+        return answer;
+    }
+
+    /****
+     * Return the Pieces at a given set of indexes in pieces[]
+     */
+    private static Piece[] select(Piece[] pieces, int[] comb) {
+        Piece[] answer = new Piece[comb.length];
+        for (int i = 0; i < comb.length; i++) {
+            answer[i] = pieces[comb[i]];
+        }
+        return answer;
+    }
+
+    /****
+     * @return  The numbers of the extra Pieces; null ==> none
+     */
+    public int[] getExtras() {
+        return extras == null ? null : extras.clone();
+    }
+
+    /****
+     * @return  The index of the combination of Pieces in the order Board.solve() does them
+     */
+    public int getCombination() {
+        return combination;
+    }
+
+    /****
+     * @return  The position of the first Piece of the combination
+     */
+    public int getFirstPos() {
+        return firstPos;
+    }
+
+    /****
+     * Return the combination of Pieces the WorkUnit is for
+     * 
+     * @return      The Board.CAPACITY Pieces
+     */
+    public Piece[] getPieces() {
+        Piece[] pieces = Piece.makePieces(extras);
+        return select(pieces, Board.combinations(pieces.length).get(combination));
+    }
+
+    /****
+     * Find the WorkUnit's solutions on a given Board
+     * 
+     * @param board     The Board to use. It's empty before and after.
+     * @param listener  Who to tell about each solution
+     * @return          true if there were any
+     */
+    public boolean solve(Board board, SolutionListener listener) {
+        return board.solveForSet(getPieces(), firstPos, listener);
+    }
+
+    /****
+     * Return the WorkUnit as a line of text parse() can turn back into it, e.g., "A 3 7" for 
+     * the position 7 unit of combination 3 with extra Piece A.
+     * 
+     * @return      The line
+     */
+    public String encode() {
+        StringBuilder names = new StringBuilder();
+        if (extras == null) {
+            names.append('-');
+        } else {
+            for (int e : extras) {
+                names.append((char)('A' + e));
+            }
+        }
+        return names + " " + combination + " " + firstPos;
+    }
+
+    /****
+     * Turn a line made by encode() back into a WorkUnit
+     * 
+     * @param line      The line
+     * @return          The WorkUnit
+     * @throws IllegalArgumentException If it's not something encode() could have made
+     */
+    public static WorkUnit parse(String line) {
+        String[] words = line.trim().split(" ");
+        if (words.length != 3) {
+            throw new IllegalArgumentException("\"" + line + "\" isn't a work unit.");
+        }
+        int[] extras = null;
+        if (!words[0].equals("-")) {
+            extras = new int[words[0].length()];
+            for (int i = 0; i < extras.length; i++) {
+                extras[i] = words[0].charAt(i) - 'A';
+            }
+        }
+        return new WorkUnit(extras, Integer.parseInt(words[1]), Integer.parseInt(words[2]));
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
@@ -0,0 +1,157 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the Worker class, which claims WorkUnits from a Spool, solves them and
+ * hands the results back, until there's no more work.
+ * 
+ * =====
+ *
+ *  @file     Worker.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.*;
+
+public class Worker {
+    static final long HEARTBEAT_MS = 1000;      // How often a Worker says it's alive
+    private static final long IDLE_MS = 50;     // How long a Worker waits when there's nothing to do
+
+    private final Spool spool;                  // Where the work comes from
+    private final String id;                    // Who we are
+    private final long heartbeatMs;             // How often we say we're alive
+    private int nDone;                          // The number of WorkUnits solved so far
+
+    /****
+     * Constructor
+     * 
+     * @param spool     Where to get the work from
+     */
+    public Worker(Spool spool) {
+        this.spool = spool;
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            host = "localhost";
+        }
+        id = ProcessHandle.current().pid() + "-" + host;
+        heartbeatMs = HEARTBEAT_MS;
+    }
+
+    /****
+     * Constructor for a Worker with a given id that says it's alive at a given rate
+     * 
+     * @param spool         Where to get the work from
+     * @param id            Who the Worker is
+     * @param heartbeatMs   How often it says it's alive
+     */
+    Worker(Spool spool, String id, long heartbeatMs) {
+        this.spool = spool;
+        this.id = id;
+        this.heartbeatMs = heartbeatMs;
+    }
+
+    /****
+     * Claim and solve WorkUnits until there are none waiting and the Spool says none are 
+     * coming.
+     * 
+     * @return          The number of WorkUnits solved
+     * @throws IOException
+     * @throws InterruptedException
+     */
+    public int run() throws IOException, InterruptedException {
+        ScheduledExecutorService heart = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        spool.heartbeat(id);
+        heart.scheduleAtFixedRate(() -> {
+            try {
+                spool.heartbeat(id);
+            } catch (IOException e) {
+                // Throwing would cancel the heartbeat for good; next time may go better
+                System.err.printf("Worker %s couldn't say it's alive: %s\n", id, e);
+            }
+        }, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        try {
+            Board board = new Board();
+            while (true) {
+                Spool.Claim claim = spool.claim(id);
+                if (claim == null) {
+                    if (spool.isFinished()) {
+                        return nDone;
+                    }
+                    Thread.sleep(IDLE_MS);
+                    continue;
+                }
+                spool.complete(claim.seq, id, solve(board, claim.unit));
+                nDone++;
+            }
+        } finally {
+            heart.shutdownNow();
+        }
+    }
+
+    /****
+     * Solve a WorkUnit and return the result the way Coordinator expects it: a line of 
+     * counts (nodes, dead ends, pruned positions) followed by a line for each solution 
+     * giving the number and position of each of its Pieces.
+     * 
+     * @param board     The Board to use
+     * @param unit      The WorkUnit
+     * @return          The result
+     */
+    static String solve(Board board, WorkUnit unit) {
+        SearchStats stats = new SearchStats();
+        board.setStats(stats);
+        StringBuilder solutions = new StringBuilder();
+        unit.solve(board, s -> {
+            for (int i = 0; i < s.getPieceCount(); i++) {
+                solutions.append(i == 0 ? "" : " ").append(s.getPiece(i)).append(' ').append(s.getPosition(i));
+            }
+            solutions.append('\n');
+            return true;
+        });
+        return stats.getNodeCount() + " " + stats.getDeadEndCount() + " " + stats.getPrunedCount() + "\n" + solutions;
+    }
+}
@@ -0,0 +1,144 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests Checkpoint: a sweep stopped partway through a combination and resumed
+ * from its Checkpoint, read back from its file, has to find the same solutions in the same
+ * order as one that ran straight through.
+ * 
+ * =====
+ *
+ *  @file     CheckpointTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+public class CheckpointTest {
+    /****
+     * Thrown by the checkpoint consumer to stop the search where it had got to
+     */
+    private static class Stop extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final SearchFrontier at;
+
+        Stop(SearchFrontier at) {
+            this.at = at;
+        }
+    }
+
+    @Test
+    void resumedSweepFindsTheSameSolutionsInTheSameOrder() throws IOException {
+        int[] extras = {5};
+        List<Solution> straight = new ArrayList<>();
+        List<SearchFrontier> frontiers = new ArrayList<>();
+        List<Integer> foundAt = new ArrayList<>();
+        Board board = new Board();
+        board.setCheckpoints(f -> {
+            frontiers.add(f);
+            foundAt.add(straight.size());
+        }, 0);
+        board.solve(extras, s -> straight.add(s), null);
+        assertEquals(8, straight.size());
+
+        int stopAt = -1;                                    // Stop partway through a combination, 
+        for (int k = 0; k < frontiers.size() && stopAt < 0; k++) {  //   once some solutions are in
+            if (frontiers.get(k).getPositions().length > 1 && foundAt.get(k) > 0 && foundAt.get(k) < straight.size()) {
+                stopAt = k;
+            }
+        }
+        assertTrue(stopAt >= 0);
+
+        Path dir = Files.createTempDirectory("checkpoint");
+        Path file = dir.resolve("sweep");
+        Path log = Checkpoint.solutionsPath(file);
+        int[] found = new int[Piece.N_PIECES];
+        int nCalls = stopAt + 1;
+        Board stopped = new Board();
+        try (SolutionStoreWriter writer = new SolutionStoreWriter(log, 0)) {
+            int[] calls = {0};
+            stopped.setCheckpoints(f -> {
+                try {
+                    new Checkpoint(extras[0], f, found).write(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (++calls[0] == nCalls) {
+                    throw new Stop(f);
+                }
+            }, 0);
+            Stop stop = assertThrows(Stop.class, () -> stopped.solve(extras, s -> {
+                writer.solutionFound(s);
+                found[extras[0]]++;
+                return true;
+            }, null));
+            assertEquals(foundAt.get(stopAt).intValue(), found[extras[0]]);
+            writer.append(straight.get(straight.size() - 1));   // (As if found after the checkpoint)
+
+            Checkpoint read = Checkpoint.read(file);
+            assertEquals(extras[0], read.getItem());
+            assertTrue(read.getFrontier().isFor(extras));
+            assertEquals(stop.at.getCombination(), read.getFrontier().getCombination());
+            assertEquals(stop.at.isSolved(), read.getFrontier().isSolved());
+            assertArrayEquals(stop.at.getPositions(), read.getFrontier().getPositions());
+            assertEquals(found[extras[0]], read.getFoundCount(extras[0]));
+            assertEquals(0, read.getFoundCount(0));
+            assertEquals(found[extras[0]], read.getSolutionCount());
+        }
+
+        Checkpoint resume = Checkpoint.read(file);
+        try (SolutionStoreWriter writer = new SolutionStoreWriter(log, resume.getSolutionCount())) {
+            new Board().solve(extras, writer, resume.getFrontier());
+        }
+        try (SolutionStore stored = SolutionStore.open(log)) {
+            List<Solution> resumed = new ArrayList<>();
+            for (int r = 0; r < stored.getRecordCount(); r++) {
+                resumed.add(stored.getRecord(r));
+            }
+            assertEquals(straight, resumed);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests Coordinator, Worker and the Spool between them: the results handed back
+ * through the Spool have to be the search's, and the work of a Worker that stops saying it's
+ * alive has to be handed out again.
+ * 
+ * =====
+ *
+ *  @file     CoordinatorTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+public class CoordinatorTest {
+    @Test
+    void workerInTheSameProcessFindsWhatTheBoardDoes() throws Exception {
+        int[] extras = {5};
+        List<Solution> sequential = new ArrayList<>();
+        new Board().solve(extras, s -> sequential.add(s));
+        Path dir = Files.createTempDirectory("spool");
+        List<Solution> spooled = new ArrayList<>();
+        int[] nDone = {-1};
+        Thread worker;
+        try (Coordinator coordinator = new Coordinator(new Spool(dir))) {
+            Coordinator.Job job = coordinator.submit(extras);
+            worker = new Thread(() -> {
+                try {
+                    nDone[0] = new Worker(new Spool(dir)).run();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            worker.start();
+            assertTrue(coordinator.deliver(job, s -> spooled.add(s)));
+            assertEquals(0, coordinator.getRequeuedCount());
+            assertEquals(sequential.size(), coordinator.getStats().getSolutionCount());
+        }
+        worker.join(10_000);                                // (close() said there's no more work)
+        assertFalse(worker.isAlive());
+        assertEquals(WorkUnit.split(extras).size(), nDone[0]);
+        assertEquals(sequential, spooled);
+    }
+
+    @Test
+    void silentWorkersWorkIsHandedOutAgain() throws Exception {
+        Path dir = Files.createTempDirectory("spool");
+        Spool spool = new Spool(dir);
+        List<WorkUnit> units = WorkUnit.split(new int[] {5});
+        spool.submit(0, units.get(0));
+        spool.submit(1, units.get(1));
+        assertEquals(0, spool.claim("dead").seq);
+        assertEquals(1, spool.claim("alive").seq);
+        spool.heartbeat("dead");
+        spool.heartbeat("alive");
+        long now = System.currentTimeMillis();              // Their clocks are an hour out
+        Files.setLastModifiedTime(dir.resolve("workers/dead"), FileTime.fromMillis(now + 3_600_000));
+        Files.setLastModifiedTime(dir.resolve("workers/alive"), FileTime.fromMillis(now - 3_600_000));
+
+        long timeoutMs = 200;
+        assertEquals(0, spool.requeueDead(timeoutMs));     // (Neither has been seen before)
+        Thread.sleep(timeoutMs + 100);
+        spool.heartbeat("alive");
+        Files.setLastModifiedTime(dir.resolve("workers/alive"), FileTime.fromMillis(now - 3_600_000));
+        Thread.sleep(timeoutMs + 100);
+        assertEquals(1, spool.requeueDead(timeoutMs));     // Only the one that went quiet
+        assertEquals(0, spool.claim("another").seq);
+        assertNull(spool.claim("another"));                 // (Unit 1 is still being worked on)
+    }
+
+    @Test
+    void workerKeepsItsClaimThroughAFailedHeartbeat() throws Exception {
+        Path dir = Files.createTempDirectory("spool");
+        Spool spool = new Spool(dir);
+        spool.submit(0, WorkUnit.split(new int[] {5}).get(0));
+        assertEquals(0, spool.claim("w").seq);             // Worker w is busy with unit 0
+        long heartbeatMs = 20;
+        Thread worker = new Thread(() -> {
+            try {
+                new Worker(new Spool(dir), "w", heartbeatMs).run();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        worker.start();
+        Path beat = dir.resolve("workers/w");
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!Files.isRegularFile(beat)) {                // (Its first heartbeat isn't retried)
+            assertTrue(System.currentTimeMillis() < deadline, "the worker never said it's alive");
+            Thread.sleep(heartbeatMs);
+        }
+
+        // Put a directory where its heartbeat file goes, so that its heartbeats fail for a while
+        while (true) {
+            Files.deleteIfExists(beat);
+            try {
+                Files.createDirectory(beat);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // It beat us to it; try again
+            }
+        }
+        Thread.sleep(5 * heartbeatMs);
+        Files.delete(beat);
+        deadline = System.currentTimeMillis() + 5_000;
+        while (!Files.isRegularFile(beat)) {
+            assertTrue(System.currentTimeMillis() < deadline, "the heartbeat never came back");
+            Thread.sleep(heartbeatMs);
+        }
+
+        long timeoutMs = 200;
+        assertEquals(0, spool.requeueDead(timeoutMs));
+        Thread.sleep(timeoutMs + 100);
+        assertEquals(0, spool.requeueDead(timeoutMs));     // Still alive, so still its
+        spool.setFinished(true);
+        worker.join(10_000);
+        assertFalse(worker.isAlive());
+    }
+}
@@ -0,0 +1,156 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file holds what the tests know about the puzzle's solutions: the 43 listed in
+ * README.md, read out of it, and how to check a solver's against them.
+ * 
+ * =====
+ *
+ *  @file     KnownSolutions.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.*;
+
+final class KnownSolutions {
+    private static final Pattern ROW = Pattern.compile("\\*([A-P]{8})\\*");   // A row of a board in README.md
+    private static final Pattern NAMES = Pattern.compile("^\\s+[A-P]{8}(\\s+[A-P]{8})*\\s*$");
+                                                            //   and a line of Piece names below the boards
+    private static Map<String, String> known;               // The README's solutions: Piece names by board
+                                                            //   (null ==> not read yet)
+
+    private KnownSolutions() {
+    }
+
+    /****
+     * Return the 43 solutions listed in README.md, reading them the first time. Each is keyed 
+     * by its board, written as the names of the Pieces in the 48 cells in cell number order, 
+     * and maps to the names of the Pieces it uses, written the way the README does, e.g., 
+     * "ABCDEFGHIJKLMOPA".
+     * 
+     * @return      The solutions
+     */
+    static synchronized Map<String, String> known() {
+        if (known == null) {
+            try {
+                known = read(Paths.get("README.md"));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            assertEquals(43, known.size(), "README.md should list 43 solutions");
+        }
+        return known;
+    }
+
+    /****
+     * Read the solutions out of a README: the boards drawn side by side, a row of each per 
+     * line, with the names of the Pieces each uses on the lines below them.
+     */
+    private static Map<String, String> read(Path readme) throws IOException {
+        Map<String, String> answer = new LinkedHashMap<>();
+        List<StringBuilder> boards = new ArrayList<>();
+        List<StringBuilder> names = new ArrayList<>();
+        for (String line : Files.readAllLines(readme)) {
+            Matcher m = ROW.matcher(line);
+            int i = 0;
+            while (m.find()) {
+                if (boards.size() <= i) {
+                    boards.add(new StringBuilder());
+                }
+                boards.get(i++).append(m.group(1));
+            }
+            if (NAMES.matcher(line).matches() && !boards.isEmpty()) {
+                String[] words = line.trim().split("\\s+");
+                for (i = 0; i < words.length; i++) {
+                    if (names.size() <= i) {
+                        names.add(new StringBuilder());
+                    }
+                    names.get(i).append(words[i]);
+                }
+                if (names.get(0).length() == 2 * Board.WIDTH) {
+                    for (i = 0; i < boards.size(); i++) {
+                        answer.put(boards.get(i).toString(), names.get(i).toString());
+                    }
+                    boards.clear();
+                    names.clear();
+                }
+            }
+        }
+        return answer;
+    }
+
+    /****
+     * Return a Solution's board the way known() keys them.
+     */
+    static String boardOf(Solution s) {
+        StringBuilder answer = new StringBuilder();
+        for (int y = 0; y < Board.HEIGHT; y++) {
+            for (int x = 0; x < Board.WIDTH; x++) {
+                answer.append(s.getOwner(x, y));
+            }
+        }
+        return answer.toString();
+    }
+
+    /****
+     * Check that what a solver found, over all 16 choices of extra Piece, is exactly the 
+     * known solutions, each found once and each using the Pieces the README says it does.
+     */
+    static void assertKnown(List<Solution> found) {
+        Map<String, String> got = new LinkedHashMap<>();
+        for (Solution s : found) {
+            String board = boardOf(s);
+            assertNull(got.put(board, s.getPieceNames().replace(" ", "")), "Found twice:\n" + s);
+        }
+        Map<String, String> known = known();
+        for (String board : got.keySet()) {
+            assertTrue(known.containsKey(board), "Not a known solution:\n" + board);
+        }
+        for (String board : known.keySet()) {
+            assertTrue(got.containsKey(board), "Known solution not found:\n" + board);
+        }
+        assertEquals(known, got);
+    }
+}
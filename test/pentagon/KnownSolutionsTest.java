@@ -0,0 +1,182 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file implements the correctness gate for the solvers: every one of them has to find
+ * exactly the 43 solutions listed in README.md, no more, no fewer, and nothing twice.
+ * 
+ * =====
+ *
+ *  @file     KnownSolutionsTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+public class KnownSolutionsTest {
+    @Test
+    void backtrackingFindsTheKnownSolutions() {
+        List<Solution> found = new ArrayList<>();
+        Board board = new Board();
+        for (int extra = 0; extra < Piece.N_PIECES; extra++) {
+            assertTrue(board.solve(extra, s -> found.add(s)));
+        }
+        KnownSolutions.assertKnown(found);
+    }
+
+    @Test
+    void cellByCellFindsTheKnownSolutions() {
+        List<Solution> found = new ArrayList<>();
+        Board board = new Board();
+        for (int extra = 0; extra < Piece.N_PIECES; extra++) {
+            board.solveByCell(extra, s -> found.add(s));
+        }
+        KnownSolutions.assertKnown(found);
+    }
+
+    @Test
+    void dancingLinksFindsTheKnownSolutions() {
+        List<Solution> found = new ArrayList<>();
+        DlxSolver solver = new DlxSolver();
+        for (int extra = 0; extra < Piece.N_PIECES; extra++) {
+            solver.solve(extra, s -> found.add(s));
+        }
+        KnownSolutions.assertKnown(found);
+    }
+
+    @Test
+    void placementBitsetsFindTheKnownSolutions() {
+        List<Solution> found = new ArrayList<>();
+        BitsetSolver solver = new BitsetSolver();
+        for (int extra = 0; extra < Piece.N_PIECES; extra++) {
+            solver.solve(extra, s -> found.add(s));
+        }
+        KnownSolutions.assertKnown(found);
+        assertEquals(0, solver.getStats().getRejectedCount());
+        Board board = new Board();
+        for (int[] extras : new int[][] {{0, 0}, {0, 5}, {3, 12}}) {
+            assertEquals(board.count(extras), solver.solve(extras, s -> true), "Extras " + Arrays.toString(extras));
+        }
+    }
+
+    @Test
+    void halfBoardJoinFindsTheKnownSolutions() {
+        List<Solution> found = new ArrayList<>();
+        HalfBoardSolver solver = new HalfBoardSolver();
+        for (int extra = 0; extra < Piece.N_PIECES; extra++) {
+            solver.solve(extra, s -> found.add(s));
+        }
+        KnownSolutions.assertKnown(found);
+        solver.setCopyLimit(3);                                 // One set of halves for all of these
+        Board board = new Board();
+        for (int[] extras : new int[][] {{0}, {5}, {0, 0}, {0, 5}, {3, 12}, {15, 15}}) {
+            assertEquals(board.count(extras), solver.count(extras), "Extras " + Arrays.toString(extras));
+        }
+    }
+
+    @Test
+    void countsMatchTheKnownSolutions() {
+        Board board = new Board();
+        long total = 0;
+        for (int extra = 0; extra < Piece.N_PIECES; extra++) {
+            char name = (char)('A' + extra);
+            long expected = KnownSolutions.known().values().stream().filter(n -> n.charAt(n.length() - 1) == name).count();
+            long n = board.count(new int[] {extra});
+            assertEquals(expected, n, "Solutions repeating " + name);
+            assertEquals(expected > 0, board.count(new int[] {extra}, 1) > 0);
+            total += n;
+        }
+        assertEquals(43, total);
+    }
+
+    @Test
+    void transpositionTableChangesNothingButTheWork() {
+        for (long budget : new long[] {1 << 12, 1 << 24}) {     // One small enough to evict a lot
+            Board board = new Board();
+            board.setTranspositionTable(new TranspositionTable(budget));
+            List<Solution> found = new ArrayList<>();
+            for (int extra = 0; extra < Piece.N_PIECES; extra++) {
+                board.solveByCell(extra, s -> found.add(s));
+            }
+            KnownSolutions.assertKnown(found);
+            Board plain = new Board();
+            for (int[] extras : new int[][] {{0}, {5}, {0, 0}, {0, 5}, {3, 12}, {5, 9, 15}}) {
+                assertEquals(plain.count(extras), board.count(extras), "Extras " + Arrays.toString(extras));
+                assertEquals(Math.min(2, plain.count(extras)), board.count(extras, 2));
+            }
+            assertTrue(board.getTranspositionTable().getHitCount() > 0);
+        }
+    }
+
+    @Test
+    void extrasSweepMatchesSeparateSearches() {
+        List<Solution> found = new ArrayList<>();
+        ExtrasSweep singles = new ExtrasSweep(1, s -> found.add(s));
+        assertEquals(43, singles.run(new Board()));
+        KnownSolutions.assertKnown(found);
+        ExtrasSweep pairs = new ExtrasSweep(2, null);
+        pairs.run(new Board());
+        Board board = new Board();
+        long total = 0;
+        for (int[] extras : ExtrasSweep.multisets(2)) {
+            long n = pairs.getCount(extras);
+            if (extras[0] % 5 == 0) {                           // (Checking them all takes a while)
+                assertEquals(board.count(extras), n, "Extras " + Arrays.toString(extras));
+            }
+            total += n;
+        }
+        assertEquals(136, ExtrasSweep.multisets(2).size());
+        assertEquals(3338, total);
+        assertEquals(singles.getCount(new int[] {0}), pairs.getCount(new int[] {0}));
+    }
+
+    @Test
+    void solution01IsFoundForItsSet() {
+        Piece[] pieces = Piece.makePieces("ABCDEFGHIJKLMOPA");
+        List<Solution> found = new ArrayList<>();
+        assertTrue(new Board().solveForSet(pieces, Piece.NOT_POSITIONED, s -> found.add(s)));
+        assertTrue(new Board().isSolvable(pieces));
+        assertEquals(1, found.size());
+        assertEquals("AAADGCCEBBKDGGCEBKKIDOOELIIMOJJALHHFMPJALHFFMPPA", KnownSolutions.boardOf(found.get(0)));
+    }
+}
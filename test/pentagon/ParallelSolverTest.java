@@ -0,0 +1,111 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests ParallelSolver, and the work donation it relies on, against the
+ * sequential search: the same solutions in the same order.
+ * 
+ * =====
+ *
+ *  @file     ParallelSolverTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelSolverTest {
+    @Test
+    void donatedRangesCoverTheSearchInOrder() {
+        Piece[] set = Piece.makePieces("ABCDEFGHIJKLMOPA");
+        for (int[] extras : new int[][] {{0}, {5}}) {
+            List<Solution> sequential = new ArrayList<>();
+            new Board().solve(extras, s -> sequential.add(s));
+            List<Solution> split = new ArrayList<>();
+            for (int[] comb : Board.combinations(Board.CAPACITY + 1)) {
+                Piece[] pieces = Piece.makePieces(extras);
+                Piece[] combSet = new Piece[comb.length];
+                for (int i = 0; i < comb.length; i++) {
+                    combSet[i] = pieces[comb[i]];
+                }
+                if (!Board.repeatsCombination(pieces, combSet)) {
+                    solveDonating(combSet, new SearchRange(new int[0], 0, Integer.MAX_VALUE), split);
+                }
+            }
+            assertEquals(sequential, split);
+        }
+        List<Solution> found = new ArrayList<>();
+        assertTrue(solveDonating(set, new SearchRange(new int[0], 0, Integer.MAX_VALUE), found) > 1);
+        assertEquals(1, found.size());
+    }
+    /****
+     * Search a range on a Board that gives work away every time it's asked, then search the 
+     * ranges it gave away (and so on) the way ParallelSolver puts them back together.
+     */
+    private static int solveDonating(Piece[] set, SearchRange range, List<Solution> found) {
+        List<SearchRange> donated = new ArrayList<>();
+        Board board = new Board();
+        board.setDonations(() -> true, donated::add);
+        board.solveForSet(set, range, s -> found.add(s));
+        int n = 1;
+        for (int i = donated.size() - 1; i >= 0; i--) {
+            n += solveDonating(set, donated.get(i), found);
+        }
+        return n;
+    }
+    @Test
+    void parallelSearchMatchesSequentialSearch() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int extra : new int[] {0, 5}) {
+                List<Solution> sequential = new ArrayList<>();
+                new Board().solve(extra, s -> sequential.add(s));
+                List<Solution> parallel = new ArrayList<>();
+                assertTrue(new ParallelSolver(pool).submit(extra, s -> parallel.add(s)).join());
+                assertEquals(sequential, parallel);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
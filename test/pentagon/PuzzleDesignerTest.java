@@ -0,0 +1,87 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests PuzzleDesigner's capped counts against full counts of the same candidates.
+ * 
+ * =====
+ *
+ *  @file     PuzzleDesignerTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class PuzzleDesignerTest {
+    @Test
+    void puzzleDesignerCountsUpToTwo() throws IOException {
+        List<Region> regions = new ArrayList<>();
+        for (Region r : PuzzleDesigner.regions(45, 48)) {
+            if (r.getHeight() == 3 || (r.getWidth() == Board.WIDTH && r.getHeight() == Board.HEIGHT)) {
+                regions.add(r);
+            }
+        }
+        List<PuzzleDesigner.Candidate> candidates = PuzzleDesigner.candidates(regions, 1);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            int[] solutions = new PuzzleDesigner(pool, new CatalogCache(Files.createTempDirectory("catalogs"))).evaluate(candidates);
+            int nUnique = 0;
+            for (int i = 0; i < candidates.size(); i++) {
+                PuzzleDesigner.Candidate c = candidates.get(i);
+                long n = new BitsetSolver(Tiling.catalogFor(c.region), c.region.getCells()).countFor(c.counts, Long.MAX_VALUE);
+                assertEquals(Math.min(n, PuzzleDesigner.MORE_THAN_ONE), solutions[i],
+                    PuzzleDesigner.describe(c.region) + " " + c.getPieceNames());
+                nUnique += n == 1 ? 1 : 0;
+                if (c.region.equals(Region.rectangle(Board.WIDTH, Board.HEIGHT))) {
+                    assertEquals(0, n);                         // (The README's board, with no repeat)
+                }
+            }
+            assertTrue(nUnique > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests that the counts SearchStats keeps, and the events the search records, add up.
+ * 
+ * =====
+ *
+ *  @file     SearchStatsTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.*;
+import java.util.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchStatsTest {
+    @Test
+    void countsForOneSetAddUp() {
+        SearchStats stats = solveSolutionOne(true);
+        assertEquals(1, stats.getSolutionCount());
+        long[] nodesByDepth = stats.getNodesByDepth();
+        assertEquals(stats.getNodeCount(), Arrays.stream(nodesByDepth).sum());
+        assertEquals(stats.getSolutionCount(), nodesByDepth[Board.CAPACITY - 1]);
+        assertEquals(stats.getNodeCount() + stats.getRejectedCount(), stats.getTriedCount());
+        assertTrue(stats.getDeadEndCount() > 0);
+        assertTrue(stats.getPrunedCount() > 0);             // (There are two As)
+
+        // Each Piece but the first is moved through all its positions once for each placement 
+        // of the one before it that the search went on from; the first, once in all
+        long[] backtracksByDepth = stats.getBacktracksByDepth();
+        assertEquals(1, backtracksByDepth[0]);
+        for (int d = 1; d < Board.CAPACITY; d++) {
+            assertTrue(backtracksByDepth[d] <= nodesByDepth[d - 1]);
+        }
+        assertEquals(stats.getNodeCount() - nodesByDepth[Board.CAPACITY - 1] - stats.getDeadEndCount(), 
+            Arrays.stream(backtracksByDepth).sum() - 1);
+        assertEquals(0, stats.getCombinationCount());       // (Only solve() does combinations)
+        assertEquals(0, stats.getSkippedCount());
+    }
+
+    @Test
+    void deadRegionPruningOnlyCutsTheTree() {
+        SearchStats with = solveSolutionOne(true);
+        SearchStats without = solveSolutionOne(false);
+        assertEquals(0, without.getDeadEndCount());
+        assertEquals(with.getSolutionCount(), without.getSolutionCount());
+        assertTrue(with.getNodeCount() < without.getNodeCount());
+        assertTrue(with.getPrunedCount() < without.getPrunedCount());
+    }
+
+    @Test
+    void noPositionsArePrunedWithoutRepeatedPieces() {
+        Board board = new Board();
+        board.setStats(new SearchStats());
+        board.solveForSet(Piece.makePieces("ABCDEFGHIJKLMNOP"), Piece.NOT_POSITIONED, s -> true);
+        assertEquals(0, board.getStats().getPrunedCount());
+        assertTrue(board.getStats().getNodeCount() > 0);
+    }
+
+    @Test
+    void eachCombinationsCountsArePassedOnWhenItsDone() throws Exception {
+        int[] extras = {0};
+        Board board = new Board();
+        SearchStats stats = new SearchStats();
+        board.setStats(stats);
+        int[] seen = new int[2];                            // Solutions and combinations so far
+        List<String> mismatches = new ArrayList<>();
+        Path jfr = Files.createTempFile("stats", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("pentagon.Solution");
+            recording.enable("pentagon.Combination");
+            recording.start();
+            board.solve(extras, new SolutionListener() {
+                @Override
+                public boolean solutionFound(Solution s) {
+                    seen[0]++;
+                    return true;
+                }
+
+                @Override
+                public void combinationDone(Piece[] comb, boolean solved) {
+                    seen[1]++;
+                    if (stats.getSolutionCount() != seen[0] || stats.getCombinationCount() != seen[1]) {
+                        mismatches.add(String.format("after combination %d: %d solutions, %d combinations", 
+                            seen[1], stats.getSolutionCount(), stats.getCombinationCount()));
+                    }
+                }
+            });
+            recording.stop();
+            recording.dump(jfr);
+        }
+        assertEquals(List.of(), mismatches);
+
+        // Of the 17 ways to leave out one of the 17 Pieces, leaving out the first A while 
+        // keeping the second is the same as leaving out the second
+        assertEquals(Board.CAPACITY, stats.getCombinationCount());
+        assertEquals(1, stats.getSkippedCount());
+        assertEquals(new Board().count(extras), stats.getSolutionCount());
+
+        int nSolutionEvents = 0;
+        int nCombinationEvents = 0;
+        for (RecordedEvent e : RecordingFile.readAllEvents(jfr)) {
+            String name = e.getEventType().getName();
+            if (name.equals("pentagon.Solution")) {
+                nSolutionEvents++;
+            } else if (name.equals("pentagon.Combination")) {
+                nCombinationEvents++;
+            }
+        }
+        Files.delete(jfr);
+        assertEquals(stats.getSolutionCount(), nSolutionEvents);
+        assertEquals(stats.getCombinationCount(), nCombinationEvents);
+    }
+
+    /****
+     * Solve the set of Pieces that README.md's solution 01 uses, counting into a new 
+     * SearchStats, and return it.
+     */
+    private static SearchStats solveSolutionOne(boolean pruneDeadRegions) {
+        Board board = new Board();
+        board.setStats(new SearchStats());
+        board.setDeadRegionPruning(pruneDeadRegions);
+        board.solveForSet(Piece.makePieces("ABCDEFGHIJKLMOPA"), Piece.NOT_POSITIONED, s -> true);
+        return board.getStats();
+    }
+}
@@ -0,0 +1,155 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests SolutionStore and SolutionStoreWriter: what's appended, repeats, a torn
+ * last record and all, has to come back, once each, from the index's queries.
+ * 
+ * =====
+ *
+ *  @file     SolutionStoreTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.Test;
+
+public class SolutionStoreTest {
+    @Test
+    void storeHoldsEachSolutionOnce() throws IOException {
+        List<Solution> found = new ArrayList<>();
+        BitsetSolver solver = new BitsetSolver();
+        for (int extra = 0; extra < Piece.N_PIECES; extra++) {
+            solver.solve(extra, s -> found.add(s));
+        }
+        KnownSolutions.assertKnown(found);
+
+        Path file = Files.createTempDirectory("store").resolve("solutions");
+        try (SolutionStoreWriter writer = new SolutionStoreWriter(file)) {
+            found.forEach(writer::solutionFound);
+        }
+        try (SolutionStore store = SolutionStore.open(file)) {
+            assertEquals(43, store.size());
+        }
+        try (SolutionStoreWriter writer = new SolutionStoreWriter(file)) {
+            found.forEach(writer::solutionFound);               // The same ones again, which makes
+        }                                                       //   the index out of date
+        Files.write(file, new byte[SolutionStore.RECORD_SIZE / 2], StandardOpenOption.APPEND);
+                                                                // And half a record, as from a crash
+        try (SolutionStore store = SolutionStore.open(file)) {
+            assertEquals(2 * 43, store.getRecordCount());
+            assertEquals(43, store.size());
+            List<Solution> stored = IntStream.range(0, store.size()).mapToObj(store::get).collect(Collectors.toList());
+            KnownSolutions.assertKnown(stored);
+            for (int r = 0; r < store.getRecordCount(); r++) {
+                assertEquals(found.get(r % found.size()), store.getRecord(r));
+            }
+
+            Map<String, String> known = KnownSolutions.known();
+            for (int p = 0; p < Piece.N_PIECES; p++) {
+                int pNo = p;
+                char name = (char)('A' + pNo);
+                long repeats = known.values().stream().filter(n -> n.indexOf(name) != n.lastIndexOf(name)).count();
+                long omits = known.values().stream().filter(n -> n.indexOf(name) < 0).count();
+                assertEquals(repeats, store.repeating(pNo).count(), "Repeating " + name);
+                assertEquals(omits, store.omitting(pNo).count(), "Omitting " + name);
+                store.repeating(pNo).forEach(i -> assertEquals(2, countOf(store.get(i), pNo)));
+                store.omitting(pNo).forEach(i -> assertEquals(0, countOf(store.get(i), pNo)));
+            }
+            for (String names : known.values()) {
+                int[] counts = new int[Piece.N_PIECES];
+                for (char c : names.toCharArray()) {
+                    counts[c - 'A']++;
+                }
+                long same = known.values().stream().filter(n -> sorted(n).equals(sorted(names))).count();
+                assertEquals(same, store.withMultiset(counts).count(), names);
+                store.withMultiset(counts).forEach(i -> assertEquals(sorted(names), 
+                    sorted(store.get(i).getPieceNames().replace(" ", ""))));
+            }
+            int[] none = new int[Piece.N_PIECES];
+            none[0] = Board.CAPACITY - 1;
+            none[1] = 1;
+            assertEquals(0, store.withMultiset(none).count());
+        }
+
+        new SolutionStoreWriter(file).close();                  // Drops the half record
+        assertEquals(SolutionStore.HEADER_SIZE + 2 * 43 * SolutionStore.RECORD_SIZE, Files.size(file));
+        new SolutionStoreWriter(file, 5).close();               // Keep just the first five records
+        assertEquals(SolutionStore.HEADER_SIZE + 5 * SolutionStore.RECORD_SIZE, Files.size(file));
+        try (SolutionStore store = SolutionStore.open(file)) {
+            assertEquals(5, store.size());
+        }
+        assertThrows(IOException.class, () -> new SolutionStoreWriter(file, 6));
+    }
+
+    @Test
+    void somethingElseIsNotASolutionFile() throws IOException {
+        Path file = Files.createTempFile("store", ".txt");
+        Files.write(file, "Not a solution file at all.\n".getBytes());
+        assertThrows(IOException.class, () -> SolutionStore.open(file));
+        assertThrows(IOException.class, () -> new SolutionStoreWriter(file));
+        assertEquals(28, Files.size(file));                     // (Left alone)
+    }
+
+    /****
+     * Return a string of Piece names with the names in order
+     */
+    private static String sorted(String names) {
+        char[] answer = names.toCharArray();
+        Arrays.sort(answer);
+        return new String(answer);
+    }
+
+    /****
+     * Return how many copies of a Piece a Solution uses
+     */
+    private static int countOf(Solution s, int pNo) {
+        int answer = 0;
+        for (int k = 0; k < s.getPieceCount(); k++) {
+            answer += s.getPiece(k) == pNo ? 1 : 0;
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,93 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests that SolutionStream hands over every Solution and passes on search failures.
+ * 
+ * =====
+ *
+ *  @file     SolutionStreamTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.Test;
+
+public class SolutionStreamTest {
+    @Test
+    void slowConsumerGetsEverySolution() {
+        int[] extras = {0, 0};
+        long expected = new Board().count(extras);
+        assertTrue(expected > 4, "want more solutions than the queue holds");
+        long got;
+        try (Stream<Solution> solutions = SolutionStream.of(l -> new Board().solveByCell(extras, l), 4)) {
+            got = solutions.peek(s -> {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }).count();
+        }
+        assertEquals(expected, got);
+    }
+
+    @Test
+    void searchFailureReachesTheConsumerAfterItsSolutions() {
+        IllegalStateException boom = new IllegalStateException("boom");
+        List<Solution> seen = new ArrayList<>();
+        try (Stream<Solution> solutions = SolutionStream.of(l -> {
+            int[] n = {0};
+            new Board().solveByCell(new int[] {0, 0}, s -> {
+                if (n[0]++ == 2) {
+                    throw boom;
+                }
+                return l.solutionFound(s);
+            });
+        }, 4)) {
+            IllegalStateException e = assertThrows(IllegalStateException.class, () -> solutions.forEach(seen::add));
+            assertSame(boom, e);
+        }
+        assertEquals(2, seen.size());
+    }
+}
@@ -0,0 +1,120 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests SolverService's answers, its cache and how it turns down bad questions.
+ * 
+ * =====
+ *
+ *  @file     SolverServiceTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.*;
+
+import org.junit.jupiter.api.Test;
+
+public class SolverServiceTest {
+    @Test
+    void serviceAnswersFromTheCacheTheSecondTime() throws Exception {
+        try (SolverService service = new SolverService(0, 4)) {
+            service.start();
+            HttpClient client = HttpClient.newHttpClient();
+            String base = "http://localhost:" + service.getPort();
+            String[][] asked = {
+                {"/count?extras=F", "8\n", "miss"},
+                {"/count?pieces=ABCDEFGHIJKLMNOPF", "8\n", "hit"},    // (The same multiset)
+                {"/solvable?pieces=ABCDEFGHIJKLMOPA", "true\n", "miss"},
+                {"/solvable?pieces=ABCDEFGHIJKLMNOP", "false\n", "miss"},
+                {"/solvable?extras=F", "true\n", "hit"},
+                {"/count?extras=D", "0\n", "miss"},
+            };
+            for (String[] q : asked) {
+                HttpResponse<String> r = client.send(HttpRequest.newBuilder(URI.create(base + q[0])).build(), 
+                    HttpResponse.BodyHandlers.ofString());
+                assertEquals(200, r.statusCode(), q[0]);
+                assertEquals(q[1], r.body(), q[0]);
+                assertEquals(q[2], r.headers().firstValue("X-Cache").orElse(""), q[0]);
+            }
+            HttpResponse<String> r = client.send(HttpRequest.newBuilder(URI.create(base + "/solve?extras=P")).build(), 
+                HttpResponse.BodyHandlers.ofString());
+            assertTrue(r.body().endsWith("\n5 solutions.\n"));
+            r = client.send(HttpRequest.newBuilder(URI.create(base + "/count?extras=Q")).build(), 
+                HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, r.statusCode());
+        }
+    }
+
+    @Test
+    void serviceLimitsWhatItWorksOut() throws Exception {
+        try (SolverService service = new SolverService(0, 4)) {
+            service.start();
+            HttpClient client = HttpClient.newHttpClient();
+            String base = "http://localhost:" + service.getPort();
+            String[][] asked = {
+                {"/solve?extras=P&limit=2", "200", "miss", "\nThe first 2 solutions; there are more.\n"},
+                {"/solve?limit=5&extras=P", "200", "miss", "\n5 solutions.\n"},     // (More than remembered)
+                {"/solve?extras=P&limit=3", "200", "hit", "\nThe first 3 of 5 solutions.\n"},
+                {"/solve?extras=P&limit=0", "400", "miss", ""},
+                {"/count?extras=P&limit=3", "400", "miss", ""},
+                {"/count?extras=P&extras=A", "400", "miss", ""},
+                {"/count?pieces=ABCDEFGHIJKLMNO", "400", "miss", ""},  // (Too few)
+                {"/count?pieces=ABCDEFGHIJKLMNO*", "400", "miss", ""},
+                {"/count?extras=a", "400", "miss", ""},
+            };
+            for (String[] q : asked) {
+                HttpResponse<String> r = client.send(HttpRequest.newBuilder(URI.create(base + q[0])).build(), 
+                    HttpResponse.BodyHandlers.ofString());
+                assertEquals(Integer.parseInt(q[1]), r.statusCode(), q[0] + ": " + r.body());
+                assertEquals(q[2], r.headers().firstValue("X-Cache").orElse(""), q[0]);
+                assertTrue(r.body().endsWith(q[3]), q[0] + ": " + r.body());
+            }
+            service.setTimeLimit(1);
+            for (int i = 0; i < 2; i++) {                       // (Giving up isn't remembered)
+                HttpResponse<String> r = client.send(HttpRequest.newBuilder(URI.create(base + 
+                    "/count?extras=ABCDEFGHIJKLMNOP")).build(), HttpResponse.BodyHandlers.ofString());
+                assertEquals(503, r.statusCode(), r.body());
+                assertEquals("miss", r.headers().firstValue("X-Cache").orElse(""));
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests Tiling and CatalogCache: the positions generated from the tiling's rules
+ * have to be the Board's, and a cached catalog has to be the one generated.
+ * 
+ * =====
+ *
+ *  @file     TilingTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+public class TilingTest {
+    @Test
+    void tilingRulesGenerateTheBoardsPositions() throws IOException {
+        PieceCatalog generated = Tiling.catalogFor(Region.rectangle(Board.WIDTH, Board.HEIGHT));
+        for (int pNo = 0; pNo < Piece.N_PIECES; pNo++) {
+            Set<Long> want = new HashSet<>();
+            for (int pos = 0; pos < Piece.CATALOG.positionsFor(pNo); pos++) {
+                want.add(Piece.CATALOG.maskFor(pNo, pos));
+            }
+            Set<Long> got = new HashSet<>();
+            for (int pos = 0; pos < generated.positionsFor(pNo); pos++) {
+                got.add(generated.maskFor(pNo, pos));
+            }
+            assertEquals(want, got, "Piece " + (char)(pNo + 'A'));
+        }
+        BitsetSolver bitset = new BitsetSolver(generated, Board.FULL);
+        assertEquals(8, bitset.count(new int[] {5}));
+
+        Path dir = Files.createTempDirectory("catalogs");
+        CatalogCache cache = new CatalogCache(dir);
+        Region region = Region.parse(List.of("@ 1 2", "######", "######", "######", ".#####"));
+        PieceCatalog made = cache.get(region);
+        PieceCatalog loaded = new CatalogCache(dir).get(region);
+        for (int pNo = 0; pNo < Piece.N_PIECES; pNo++) {
+            assertEquals(made.positionsFor(pNo), loaded.positionsFor(pNo));
+            for (int pos = 0; pos < made.positionsFor(pNo); pos++) {
+                assertEquals(made.maskFor(pNo, pos), loaded.maskFor(pNo, pos));
+            }
+        }
+        assertEquals(1, cache.getGeneratedCount());
+        Region elsewhere = Region.parse(List.of("@ 5 6", "######", "######", "######", ".#####"));
+        assertSame(made, cache.get(elsewhere));                // (The same place in the tiling)
+        assertEquals(0, cache.getLoadedCount());
+        CatalogCache another = new CatalogCache(dir);
+        another.get(elsewhere);
+        assertEquals(1, another.getLoadedCount());
+        cache.get(Region.parse(List.of("######", "######", "######", ".#####")));
+        assertEquals(2, cache.getGeneratedCount());
+    }
+
+    @Test
+    void tilingRulesGenerateAnotherRegionsPositions() {
+        // A Region bigger than the Board, with holes, at a different place in the tiling
+        Region region = Region.parse(List.of(
+            "@ 3 1",
+            "###########.", 
+            "############", 
+            "####..######", 
+            "############", 
+            ".###########", 
+            "#########.##", 
+            "############", 
+            "###.########", 
+            "############"));
+        int[][] generated = Tiling.positionsFor(region);
+        for (int pNo = 0; pNo < Piece.N_PIECES; pNo++) {
+            // The tiling repeats every PERIOD cells, so the Piece goes wherever one of its 
+            // positions on the Board, moved by a multiple of PERIOD each way, fits
+            Set<List<Integer>> want = new HashSet<>();
+            for (int pos = 0; pos < Piece.CATALOG.positionsFor(pNo); pos++) {
+                for (int dy = -Tiling.PERIOD; dy <= region.getHeight(); dy += Tiling.PERIOD) {
+                    for (int dx = -Tiling.PERIOD; dx <= region.getWidth(); dx += Tiling.PERIOD) {
+                        List<Integer> cells = new ArrayList<>();
+                        for (int i = 0; i < 3; i++) {
+                            int cell = Piece.CATALOG.cellFor(pNo, pos, i);
+                            int x = cell % Board.WIDTH + dx - region.getOriginX();
+                            int y = cell / Board.WIDTH + dy - region.getOriginY();
+                            if (region.contains(x, y)) {
+                                cells.add(y * region.getWidth() + x);
+                            }
+                        }
+                        if (cells.size() == 3) {
+                            Collections.sort(cells);
+                            want.add(cells);
+                        }
+                    }
+                }
+            }
+            List<List<Integer>> got = new ArrayList<>();
+            for (int i = 0; i < generated[pNo].length; i += 3) {
+                List<Integer> cells = new ArrayList<>(List.of(generated[pNo][i], generated[pNo][i + 1], generated[pNo][i + 2]));
+                Collections.sort(cells);
+                got.add(cells);
+            }
+            assertEquals(want, new HashSet<>(got), "Piece " + (char)(pNo + 'A'));
+            assertEquals(want.size(), got.size(), "Piece " + (char)(pNo + 'A') + " has a position twice");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests TreeSizeEstimator's estimates against the nodes the search really visits.
+ * 
+ * =====
+ *
+ *  @file     TreeSizeEstimatorTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+public class TreeSizeEstimatorTest {
+    @Test
+    void treeSizeEstimateIsCloseToTheNodesVisited() {
+        int[] extras = {5};
+        List<TreeSizeEstimator.Estimate> estimates = new TreeSizeEstimator(1000, 1L).estimate(extras);
+        Board board = new Board();
+        List<Solution> found = new ArrayList<>();
+        SweepProgress progress = new SweepProgress(estimates, board.getStats(), 
+            new PrintStream(OutputStream.nullOutputStream()), s -> found.add(s));
+        board.solve(extras, progress);
+        assertEquals(8, found.size());
+        assertEquals(estimates.size(), progress.getDoneCount());
+        assertEquals(0.0, progress.getNodesLeft());
+        double estimated = TreeSizeEstimator.totalNodes(estimates);
+        long visited = board.getNodeCount();
+        assertTrue(Math.abs(estimated - visited) < 0.05 * visited, estimated + " estimated, " + visited + " visited");
+        assertTrue(TreeSizeEstimator.totalError(estimates) < 0.05 * estimated);
+    }
+}
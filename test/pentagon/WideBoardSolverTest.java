@@ -0,0 +1,89 @@
+/****
+ * 
+ * This file is a part of the Pentagon Tiling Puzzle. See README.md for details.
+ * 
+ * This file tests WideBoardSolver against the one-word BitsetSolver on the Board, and on
+ * a region too big for it.
+ * 
+ * =====
+ *
+ *  @file     WideBoardSolverTest.java 
+ * 
+ *  @version  Version 1.0.0, October 2026
+ *
+ *  @author   D. L. Ehnebuske
+ *
+ *  @section  license
+ *
+ *  Software License Agreement (BSD License)
+ *
+ *  Copyright (c) 2022 by D. L. Ehnebuke All rights reserved.
+ *
+ *  Redistribution and use in source and binary forms, with or without
+ *  modification, are permitted provided that the following conditions are met:
+ * 
+ *    1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 
+ *    2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ * 
+ *    3. Neither the name of the copyright holders nor the
+ *    names of its contributors may be used to endorse or promote products
+ *    derived from this software without specific prior written permission.
+ *
+ *  THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS ''AS IS'' AND ANY
+ *  EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ *  WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ *  DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER BE LIABLE FOR ANY
+ *  DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ *  (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ *  LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ *  ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *  (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ *  SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ * 
+****/
+package pentagon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+public class WideBoardSolverTest {
+    @Test
+    void wideBoardSolverMatchesTheOneWordSearch() {
+        WideBoardSolver board = new WideBoardSolver(Region.rectangle(Board.WIDTH, Board.HEIGHT));
+        BitsetSolver bitset = new BitsetSolver();
+        long total = 0;
+        for (int extra = 0; extra < Piece.N_PIECES; extra++) {
+            int[] counts = new int[Piece.N_PIECES];
+            Arrays.fill(counts, 1);
+            counts[extra]++;
+            long n = board.solve(counts, Long.MAX_VALUE, null);
+            assertEquals(bitset.solveFor(counts, null), n, "Extra " + (char)(extra + 'A'));
+            total += n;
+        }
+        assertEquals(43, total);
+
+        Region region = Region.parse(List.of("@ 3 1", "########", "########", "########", "########", "########", "########", 
+            "########", "########", "########", "########", "########", "########"));
+        assertTrue(region.isWide());
+        int[] counts = new int[Piece.N_PIECES];
+        Arrays.fill(counts, 2);
+        List<int[]> found = new ArrayList<>();
+        assertEquals(3, new WideBoardSolver(region).solve(counts, 3, found::add));
+        for (int[] layout : found) {
+            int[] cells = new int[Piece.N_PIECES];
+            for (int p : layout) {
+                cells[p]++;                                     // (Every cell is covered)
+            }
+            for (int n : cells) {
+                assertTrue(n % 3 == 0 && n <= 6, WideBoardSolver.draw(region, layout));
+            }
+        }
+    }
+}